@@ -0,0 +1,48 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.by;
+
+/**
+ * Latency of the first grouping in a fresh JVM: with placeholder and accessor generated at runtime by cglib,
+ * and with ones generated at compile time by j7group-processor. Each fork measures single call.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ColdStartBenchmark {
+    private static final int SIZE = 1000;
+
+    private List<Person> persons;
+    private List<GeneratedPerson> generatedPersons;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(SIZE);
+        generatedPersons = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            persons.add(new Person(i, "Name" + i, i % 10, i % 80));
+            generatedPersons.add(new GeneratedPerson(i, "Name" + i, i % 10, i % 80));
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> firstGroupWithRuntimeGeneration() {
+        return J7Group.groupToLists(persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, List<GeneratedPerson>> firstGroupWithCompileTimeGeneration() {
+        return J7Group.groupToLists(generatedPersons, by(GeneratedPerson.class).getGroup());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import com.github.vendigo.j7group.Partition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.field;
+import static com.github.vendigo.j7group.J7GroupPrepositions.on;
+import static com.github.vendigo.j7group.J7GroupPrepositions.whenTrue;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectBenchmark {
+
+    @Benchmark
+    public List<Integer> collectToListFrom(PersonsState state) {
+        return J7Group.collectToListFrom(state.persons, field(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public List<Integer> collectToListFromHandWritten(PersonsState state) {
+        List<Integer> result = new ArrayList<>(state.persons.size());
+        for (Person person : state.persons) {
+            result.add(person.getGroup());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] collectToIntArray(PersonsState state) {
+        return J7Group.collectToIntArray(state.persons, field(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public int[] collectToIntArrayHandWritten(PersonsState state) {
+        int[] result = new int[state.persons.size()];
+        int index = 0;
+        for (Person person : state.persons) {
+            result[index++] = person.getGroup();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Set<Integer> collectToSetFrom(PersonsState state) {
+        return J7Group.collectToSetFrom(state.persons, field(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Set<Integer> collectToSetFromHandWritten(PersonsState state) {
+        Set<Integer> result = new HashSet<>(state.persons.size());
+        for (Person person : state.persons) {
+            result.add(person.getGroup());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Person> collect(PersonsState state) {
+        return J7Group.collect(state.persons, whenTrue(Person.class).isAdult());
+    }
+
+    @Benchmark
+    public List<Person> collectHandWritten(PersonsState state) {
+        List<Person> result = new ArrayList<>();
+        for (Person person : state.persons) {
+            if (person.isAdult()) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Partition<Person> partition(PersonsState state) {
+        return J7Group.partition(state.persons, on(Person.class).isAdult());
+    }
+
+    @Benchmark
+    public List<List<Person>> partitionHandWritten(PersonsState state) {
+        List<Person> adults = new ArrayList<>();
+        List<Person> children = new ArrayList<>();
+        for (Person person : state.persons) {
+            if (person.isAdult()) {
+                adults.add(person);
+            } else {
+                children.add(person);
+            }
+        }
+        return Arrays.asList(adults, children);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.by;
+import static com.github.vendigo.j7group.J7GroupPrepositions.orderBy;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupBenchmark {
+    private static final int TOP_N = 10;
+    private static final Comparator<Person> OLDEST_FIRST = new Comparator<Person>() {
+        @Override
+        public int compare(Person first, Person second) {
+            return Integer.compare(second.getAge(), first.getAge());
+        }
+    };
+
+    @Benchmark
+    public Map<Integer, Person> group(PersonsState state) {
+        return J7Group.group(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, Person> groupHandWritten(PersonsState state) {
+        Map<Integer, Person> result = new HashMap<>();
+        for (Person person : state.persons) {
+            result.put(person.getGroup(), person);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Person> parallelGroup(PersonsState state) {
+        return J7Group.parallelGroup(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> groupToLists(PersonsState state) {
+        return J7Group.groupToLists(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> groupToListsHandWritten(PersonsState state) {
+        Map<Integer, List<Person>> result = new HashMap<>();
+        for (Person person : state.persons) {
+            List<Person> group = result.get(person.getGroup());
+            if (group == null) {
+                group = new ArrayList<>();
+                result.put(person.getGroup(), group);
+            }
+            group.add(person);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> parallelGroupToLists(PersonsState state) {
+        return J7Group.parallelGroupToLists(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public IntKeyMap<List<Person>> groupToListsByInt(PersonsState state) {
+        return J7Group.groupToListsByInt(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, Set<Person>> groupToSets(PersonsState state) {
+        return J7Group.groupToSets(state.persons, by(Person.class).getGroup());
+    }
+
+    @Benchmark
+    public Map<Integer, Set<Person>> groupToSetsHandWritten(PersonsState state) {
+        Map<Integer, Set<Person>> result = new HashMap<>();
+        for (Person person : state.persons) {
+            Set<Person> group = result.get(person.getGroup());
+            if (group == null) {
+                group = new HashSet<>();
+                result.put(person.getGroup(), group);
+            }
+            group.add(person);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> groupTopN(PersonsState state) {
+        return J7Group.groupTopN(state.persons, by(Person.class).getGroup(),
+                orderBy(Person.class).getAge(), TOP_N);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Person>> groupTopNBySorting(PersonsState state) {
+        Map<Integer, List<Person>> result = J7Group.groupToLists(state.persons, by(Person.class).getGroup());
+        for (Map.Entry<Integer, List<Person>> entry : result.entrySet()) {
+            List<Person> group = entry.getValue();
+            Collections.sort(group, OLDEST_FIRST);
+            entry.setValue(new ArrayList<>(group.subList(0, Math.min(TOP_N, group.size()))));
+        }
+        return result;
+    }
+}
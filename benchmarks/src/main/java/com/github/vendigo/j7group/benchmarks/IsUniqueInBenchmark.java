@@ -0,0 +1,37 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.field;
+
+/**
+ * Checks uniqueness of ids, so the whole collection is always scanned.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsUniqueInBenchmark {
+
+    @Benchmark
+    public boolean isUniqueIn(PersonsState state) {
+        return J7Group.isUniqueIn(state.persons, field(Person.class).getId());
+    }
+
+    @Benchmark
+    public boolean isUniqueInHandWritten(PersonsState state) {
+        Set<Integer> ids = new HashSet<>();
+        for (Person person : state.persons) {
+            if (!ids.add(person.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.from;
+import static com.github.vendigo.j7group.J7GroupPrepositions.to;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+    @Benchmark
+    public Map<Integer, String> map(PersonsState state) {
+        return J7Group.map(state.persons, from(Person.class).getGroup(), to(Person.class).getName());
+    }
+
+    @Benchmark
+    public Map<Integer, String> mapHandWritten(PersonsState state) {
+        Map<Integer, String> result = new HashMap<>();
+        for (Person person : state.persons) {
+            result.put(person.getGroup(), person.getName());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> mapToLists(PersonsState state) {
+        return J7Group.mapToLists(state.persons, from(Person.class).getGroup(), to(Person.class).getName());
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> mapToListsHandWritten(PersonsState state) {
+        Map<Integer, List<String>> result = new HashMap<>();
+        for (Person person : state.persons) {
+            List<String> names = result.get(person.getGroup());
+            if (names == null) {
+                names = new ArrayList<>();
+                result.put(person.getGroup(), names);
+            }
+            names.add(person.getName());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Set<String>> mapToSets(PersonsState state) {
+        return J7Group.mapToSets(state.persons, from(Person.class).getGroup(), to(Person.class).getName());
+    }
+
+    @Benchmark
+    public Map<Integer, Set<String>> mapToSetsHandWritten(PersonsState state) {
+        Map<Integer, Set<String>> result = new HashMap<>();
+        for (Person person : state.persons) {
+            Set<String> names = result.get(person.getGroup());
+            if (names == null) {
+                names = new HashSet<>();
+                result.put(person.getGroup(), names);
+            }
+            names.add(person.getName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import com.github.vendigo.j7group.OnePassResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.by;
+import static com.github.vendigo.j7group.J7GroupPrepositions.field;
+
+/**
+ * Three operations on the same collection: in one pass and as separate calls.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OnePassBenchmark {
+
+    @Benchmark
+    public OnePassResult onePass(PersonsState state) {
+        return J7Group.onePass(state.persons)
+                .groupToLists(by(Person.class).getGroup())
+                .group(by(Person.class).getId())
+                .isUnique(field(Person.class).getId())
+                .run();
+    }
+
+    @Benchmark
+    public List<Object> separateCalls(PersonsState state) {
+        return Arrays.<Object>asList(
+                J7Group.groupToLists(state.persons, by(Person.class).getGroup()),
+                J7Group.group(state.persons, by(Person.class).getId()),
+                J7Group.isUniqueIn(state.persons, field(Person.class).getId()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.vendigo.j7group.benchmarks;
+
+public class Person {
+    private int id;
+    private String name;
+    private int group;
+    private int age;
+    private boolean adult;
+
+    public Person() {
+    }
+
+    public Person(int id, String name, int group, int age) {
+        this.id = id;
+        this.name = name;
+        this.group = group;
+        this.age = age;
+        this.adult = age >= 18;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public boolean isAdult() {
+        return adult;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Collection of persons shared by all benchmarks.
+ * size - number of elements, keys - number of distinct values of {@link Person#getGroup()}.
+ */
+@State(Scope.Benchmark)
+public class PersonsState {
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"10", "10000"})
+    public int keys;
+
+    public List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(i, "Name" + i, random.nextInt(keys), random.nextInt(80)));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.vendigo.j7group.benchmarks;
+
+import com.github.vendigo.j7group.J7Group;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.vendigo.j7group.J7GroupPrepositions.whenFalse;
+
+/**
+ * Both benchmarks include copying of the source list, because removeFrom modifies given collection.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveFromBenchmark {
+
+    @Benchmark
+    public Collection<Person> removeFrom(PersonsState state) {
+        return J7Group.removeFrom(new ArrayList<>(state.persons), whenFalse(Person.class).isAdult());
+    }
+
+    @Benchmark
+    public Collection<Person> removeFromHandWritten(PersonsState state) {
+        List<Person> persons = new ArrayList<>(state.persons);
+        Iterator<Person> iterator = persons.iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().isAdult()) {
+                iterator.remove();
+            }
+        }
+        return persons;
+    }
+}
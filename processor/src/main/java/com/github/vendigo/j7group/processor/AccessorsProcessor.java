@@ -0,0 +1,153 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.GeneratedAccessors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates {@link GeneratedAccessors} implementation for every class marked with
+ * {@link com.github.vendigo.j7group.accessor.GenerateAccessors}: plain accessor class per getter
+ * and placeholder subclass which reports called getters. j7Group finds generated class by its name,
+ * so neither cglib nor reflection is used for such entities at runtime.
+ * @author Dmytro Marchenko
+ */
+@SupportedAnnotationTypes(AccessorsProcessor.ANNOTATION_NAME)
+public class AccessorsProcessor extends AbstractProcessor {
+    static final String ANNOTATION_NAME = "com.github.vendigo.j7group.accessor.GenerateAccessors";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION_NAME);
+        if (annotation == null) {
+            return false;
+        }
+        for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+            if (isValidEntity(entity)) {
+                generate(entity);
+            }
+        }
+        return true;
+    }
+
+    private boolean isValidEntity(TypeElement entity) {
+        Set<Modifier> modifiers = entity.getModifiers();
+        if (entity.getKind() != ElementKind.CLASS || modifiers.contains(Modifier.FINAL)
+                || modifiers.contains(Modifier.ABSTRACT)) {
+            return error(entity, "should be non-final, non-abstract class");
+        }
+        if (entity.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            return error(entity, "should be top level or static nested class");
+        }
+        if (entity.getNestingKind() == NestingKind.LOCAL || entity.getNestingKind() == NestingKind.ANONYMOUS
+                || modifiers.contains(Modifier.PRIVATE)) {
+            return error(entity, "should be accessible from its package");
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return error(entity, "should have non-private default constructor");
+    }
+
+    private boolean error(TypeElement entity, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Class annotated with @GenerateAccessors " + message, entity);
+        return false;
+    }
+
+    private void generate(TypeElement entity) {
+        PackageElement entityPackage = processingEnv.getElementUtils().getPackageOf(entity);
+        String packageName = entityPackage.isUnnamed() ? "" : entityPackage.getQualifiedName().toString();
+        String className = generatedSimpleName(entity, packageName);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, entity);
+            try (Writer writer = sourceFile.openWriter()) {
+                new AccessorsWriter(writer, packageName, className, entity.getQualifiedName().toString(),
+                        findGetters(entity, entityPackage)).write();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can't generate accessors: " + e.getMessage(), entity);
+        }
+    }
+
+    /**
+     * Same as the runtime lookup: binary name relative to the package, with '$' replaced by '_'.
+     */
+    private String generatedSimpleName(TypeElement entity, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(entity).toString();
+        String relativeName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return relativeName.replace('$', '_') + GeneratedAccessors.CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Getters are instance methods without parameters and type parameters, which return a value,
+     * are public or declared in the package of the entity, and don't override methods of Object, like toString().
+     */
+    private List<Getter> findGetters(TypeElement entity, PackageElement entityPackage) {
+        List<Getter> getters = new ArrayList<>();
+        Set<String> objectMethods = new HashSet<>();
+        TypeElement objectType = processingEnv.getElementUtils().getTypeElement(Object.class.getName());
+        for (ExecutableElement method : ElementFilter.methodsIn(objectType.getEnclosedElements())) {
+            objectMethods.add(method.getSimpleName().toString());
+        }
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(entity);
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            Set<Modifier> modifiers = method.getModifiers();
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)
+                    || !method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()
+                    || method.getReturnType().getKind() == TypeKind.VOID
+                    || declaringType.getQualifiedName().contentEquals(Object.class.getName())
+                    || objectMethods.contains(method.getSimpleName().toString())) {
+                continue;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(method).equals(entityPackage)) {
+                continue;
+            }
+            List<String> thrownTypes = new ArrayList<>();
+            boolean throwsCheckedExceptions = false;
+            for (TypeMirror thrownType : method.getThrownTypes()) {
+                thrownTypes.add(processingEnv.getTypeUtils().erasure(thrownType).toString());
+                throwsCheckedExceptions |= isChecked(thrownType);
+            }
+            getters.add(new Getter(method.getSimpleName().toString(),
+                    processingEnv.getTypeUtils().erasure(method.getReturnType()), modifiers, thrownTypes,
+                    throwsCheckedExceptions));
+        }
+        return getters;
+    }
+
+    private boolean isChecked(TypeMirror exceptionType) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror runtimeException = processingEnv.getElementUtils()
+                .getTypeElement(RuntimeException.class.getName()).asType();
+        TypeMirror error = processingEnv.getElementUtils().getTypeElement(Error.class.getName()).asType();
+        return !types.isSubtype(exceptionType, runtimeException) && !types.isSubtype(exceptionType, error);
+    }
+}
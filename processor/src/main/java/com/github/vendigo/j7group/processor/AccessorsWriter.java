@@ -0,0 +1,262 @@
+package com.github.vendigo.j7group.processor;
+
+import javax.lang.model.type.TypeKind;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes source of generated accessors. For entity {@code Person} with getters {@code getName()} and
+ * {@code getAge()} it looks like:
+ * <pre>
+ * public final class Person_J7GroupAccessors implements GeneratedAccessors&lt;Person&gt; {
+ *     static final Accessor&lt;Person, ?&gt; GET_NAME = new GetNameAccessor();
+ *     ...
+ *     public Accessor&lt;Person, ?&gt; getAccessor(String getterName) {
+ *         switch (getterName) { case "getName": return GET_NAME; ... }
+ *     }
+ *
+ *     static final class GetAgeAccessor implements Accessor&lt;Person, Integer&gt;, IntAccessor&lt;Person&gt;, ... {
+ *         public Integer get(Person entity) { return entity.getAge(); }
+ *         public int getInt(Person entity) { return entity.getAge(); }
+ *         ...
+ *     }
+ *
+ *     static final class Placeholder extends Person {
+ *         public int getAge() { recorder.record(GET_AGE, int.class); return 0; }
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * Constants are qualified with the generated class name inside the placeholder, as it inherits members of the entity.
+ * Checked exceptions of getters are declared by the placeholder and wrapped into
+ * {@link java.lang.reflect.UndeclaredThrowableException} by accessors.
+ */
+class AccessorsWriter {
+    private static final String ACCESSOR_PACKAGE = "com.github.vendigo.j7group.accessor.";
+    private static final String INT_ACCESSOR = "IntAccessor";
+    private static final String LONG_ACCESSOR = "LongAccessor";
+    private static final String DOUBLE_ACCESSOR = "DoubleAccessor";
+
+    private final Writer writer;
+    private final String packageName;
+    private final String className;
+    private final String entityName;
+    private final List<Getter> getters;
+
+    AccessorsWriter(Writer writer, String packageName, String className, String entityName, List<Getter> getters) {
+        this.writer = writer;
+        this.packageName = packageName;
+        this.className = className;
+        this.entityName = entityName;
+        this.getters = getters;
+    }
+
+    void write() throws IOException {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        line("/**");
+        line(" * Generated by j7group-processor for {@link " + entityName + "}.");
+        line(" */");
+        line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line("public final class " + className + " implements " + ACCESSOR_PACKAGE + "GeneratedAccessors<"
+                + entityName + "> {");
+        for (Getter getter : getters) {
+            line("    static final " + accessorType("?") + " " + constantName(getter) + " = new "
+                    + accessorClassName(getter) + "();");
+        }
+        line("");
+        writeGetAccessor();
+        line("");
+        line("    @Override");
+        line("    public " + entityName + " createPlaceholder(" + ACCESSOR_PACKAGE + "AccessorRecorder recorder) {");
+        line("        return new Placeholder(recorder);");
+        line("    }");
+        for (Getter getter : getters) {
+            line("");
+            writeAccessorClass(getter);
+        }
+        line("");
+        writePlaceholder();
+        line("}");
+    }
+
+    private void writeGetAccessor() throws IOException {
+        line("    @Override");
+        line("    public " + accessorType("?") + " getAccessor(String getterName) {");
+        line("        switch (getterName) {");
+        for (Getter getter : getters) {
+            line("            case \"" + getter.getName() + "\":");
+            line("                return " + constantName(getter) + ";");
+        }
+        line("            default:");
+        line("                return null;");
+        line("        }");
+        line("    }");
+    }
+
+    private void writeAccessorClass(Getter getter) throws IOException {
+        List<String> primitiveAccessors = primitiveAccessors(getter.getReturnKind());
+        StringBuilder interfaces = new StringBuilder(accessorType(boxedType(getter)));
+        for (String primitiveAccessor : primitiveAccessors) {
+            interfaces.append(", ").append(ACCESSOR_PACKAGE).append(primitiveAccessor).append('<').append(entityName)
+                    .append('>');
+        }
+
+        line("    static final class " + accessorClassName(getter) + " implements " + interfaces + " {");
+        writeAccessorMethod(boxedType(getter), "get", getter);
+        for (String primitiveAccessor : primitiveAccessors) {
+            String primitiveType = primitiveAccessor.substring(0, primitiveAccessor.length() - "Accessor".length());
+            writeAccessorMethod(primitiveType.toLowerCase(), "get" + primitiveType, getter);
+        }
+        line("    }");
+    }
+
+    private void writeAccessorMethod(String returnType, String methodName, Getter getter) throws IOException {
+        line("        @Override");
+        line("        public " + returnType + " " + methodName + "(" + entityName + " entity) {");
+        if (!getter.throwsCheckedExceptions()) {
+            line("            return entity." + getter.getName() + "();");
+            line("        }");
+            return;
+        }
+        // Accessors can't throw checked exceptions, they are wrapped the same way as proxies do it
+        line("            try {");
+        line("                return entity." + getter.getName() + "();");
+        line("            } catch (java.lang.RuntimeException e) {");
+        line("                throw e;");
+        line("            } catch (java.lang.Error e) {");
+        line("                throw e;");
+        line("            } catch (java.lang.Throwable e) {");
+        line("                throw new java.lang.reflect.UndeclaredThrowableException(e);");
+        line("            }");
+        line("        }");
+    }
+
+    private void writePlaceholder() throws IOException {
+        line("    static final class Placeholder extends " + entityName + " {");
+        line("        private final " + ACCESSOR_PACKAGE + "AccessorRecorder recorder;");
+        line("");
+        line("        Placeholder(" + ACCESSOR_PACKAGE + "AccessorRecorder recorder) {");
+        line("            this.recorder = recorder;");
+        line("        }");
+        for (Getter getter : getters) {
+            if (!getter.isOverridable()) {
+                continue;
+            }
+            String record = "recorder.record(" + className + "." + constantName(getter) + ", "
+                    + getter.getReturnType() + ".class)";
+            line("");
+            line("        @Override");
+            line("        " + getter.getAccessModifier() + getter.getReturnType() + " " + getter.getName() + "()"
+                    + throwsClause(getter) + " {");
+            // Entity's constructor may call the getter before recorder is set
+            line("            if (recorder == null) {");
+            line("                return super." + getter.getName() + "();");
+            line("            }");
+            if (getter.getReturnKind().isPrimitive()) {
+                line("            " + record + ";");
+                line("            return " + defaultValue(getter.getReturnKind()) + ";");
+            } else {
+                line("            return (" + getter.getReturnType() + ") " + record + ";");
+            }
+            line("        }");
+        }
+        line("    }");
+    }
+
+    /**
+     * Same as runtime generated accessors: primitive accessors which the getter's type can be widened to.
+     */
+    private static List<String> primitiveAccessors(TypeKind returnKind) {
+        List<String> primitiveAccessors = new ArrayList<>(3);
+        if (returnKind == TypeKind.INT || returnKind == TypeKind.SHORT || returnKind == TypeKind.BYTE
+                || returnKind == TypeKind.CHAR) {
+            primitiveAccessors.add(INT_ACCESSOR);
+        }
+        if (!primitiveAccessors.isEmpty() || returnKind == TypeKind.LONG) {
+            primitiveAccessors.add(LONG_ACCESSOR);
+        }
+        if (!primitiveAccessors.isEmpty() || returnKind == TypeKind.FLOAT || returnKind == TypeKind.DOUBLE) {
+            primitiveAccessors.add(DOUBLE_ACCESSOR);
+        }
+        return primitiveAccessors;
+    }
+
+    private static String throwsClause(Getter getter) {
+        StringBuilder throwsClause = new StringBuilder();
+        for (String thrownType : getter.getThrownTypes()) {
+            throwsClause.append(throwsClause.length() == 0 ? " throws " : ", ").append(thrownType);
+        }
+        return throwsClause.toString();
+    }
+
+    private static String defaultValue(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0.0f";
+            case DOUBLE:
+                return "0.0";
+            case INT:
+                return "0";
+            default:
+                return "(" + kind.name().toLowerCase() + ") 0";
+        }
+    }
+
+    private static String boxedType(Getter getter) {
+        switch (getter.getReturnKind()) {
+            case BOOLEAN:
+                return "Boolean";
+            case BYTE:
+                return "Byte";
+            case SHORT:
+                return "Short";
+            case CHAR:
+                return "Character";
+            case INT:
+                return "Integer";
+            case LONG:
+                return "Long";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            default:
+                return getter.getReturnType();
+        }
+    }
+
+    private String accessorType(String valueType) {
+        return ACCESSOR_PACKAGE + "Accessor<" + entityName + ", " + valueType + ">";
+    }
+
+    private static String constantName(Getter getter) {
+        StringBuilder constantName = new StringBuilder();
+        for (char c : getter.getName().toCharArray()) {
+            if (Character.isUpperCase(c) && constantName.length() > 0) {
+                constantName.append('_');
+            }
+            constantName.append(Character.toUpperCase(c));
+        }
+        return constantName.toString();
+    }
+
+    private static String accessorClassName(Getter getter) {
+        return Character.toUpperCase(getter.getName().charAt(0)) + getter.getName().substring(1) + "Accessor";
+    }
+
+    private void line(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+}
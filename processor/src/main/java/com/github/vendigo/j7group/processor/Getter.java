@@ -0,0 +1,61 @@
+package com.github.vendigo.j7group.processor;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Getter of the entity for which accessor is generated.
+ */
+class Getter {
+    private final String name;
+    private final TypeMirror returnType;
+    private final Set<Modifier> modifiers;
+    private final List<String> thrownTypes;
+    private final boolean throwsCheckedExceptions;
+
+    Getter(String name, TypeMirror returnType, Set<Modifier> modifiers, List<String> thrownTypes,
+           boolean throwsCheckedExceptions) {
+        this.name = name;
+        this.returnType = returnType;
+        this.modifiers = modifiers;
+        this.thrownTypes = thrownTypes;
+        this.throwsCheckedExceptions = throwsCheckedExceptions;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getReturnType() {
+        return returnType.toString();
+    }
+
+    TypeKind getReturnKind() {
+        return returnType.getKind();
+    }
+
+    /**
+     * @return erased types from the throws clause of the getter
+     */
+    List<String> getThrownTypes() {
+        return thrownTypes;
+    }
+
+    boolean throwsCheckedExceptions() {
+        return throwsCheckedExceptions;
+    }
+
+    boolean isOverridable() {
+        return !modifiers.contains(Modifier.FINAL);
+    }
+
+    String getAccessModifier() {
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return "public ";
+        }
+        return modifiers.contains(Modifier.PROTECTED) ? "protected " : "";
+    }
+}
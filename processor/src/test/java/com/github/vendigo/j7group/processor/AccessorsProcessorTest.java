@@ -0,0 +1,85 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.GeneratedAccessors;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.vendigo.j7group.J7Group.*;
+import static com.github.vendigo.j7group.J7GroupPrepositions.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+public class AccessorsProcessorTest {
+    private final Customer kyle = new Customer("Kyle", 10, new Address("South Park"));
+    private final Customer randy = new Customer("Randy", 45, new Address("South Park"));
+    private final Customer terrance = new Customer("Terrance", 40, new Address("Toronto"));
+    private final List<Customer> customers = Arrays.asList(kyle, randy, terrance);
+
+    @Test
+    public void testGeneratedAccessors() {
+        GeneratedAccessors<Customer> generated = new Customer_J7GroupAccessors();
+        Accessor<Customer, ?> age = generated.getAccessor("getAge");
+
+        assertThat(age, instanceOf(IntAccessor.class));
+        assertThat(((IntAccessor<Customer>) age).getInt(randy), is(45));
+        assertThat((String) generated.getAccessor("getName").get(kyle), is("Kyle"));
+        assertThat((Boolean) generated.getAccessor("isAdult").get(kyle), is(false));
+        assertThat(generated.getAccessor("toString"), nullValue());
+        assertThat(generated.getAccessor("getClass"), nullValue());
+    }
+
+    @Test
+    public void testGroupWithGeneratedPlaceholder() {
+        Customer placeholder = by(Customer.class);
+        Map<Integer, List<Customer>> byAge = groupToLists(customers, placeholder.getAge());
+
+        assertThat(placeholder.getClass().getName(), is(Customer_J7GroupAccessors.class.getName() + "$Placeholder"));
+        assertThat(byAge.get(45), contains(randy));
+    }
+
+    @Test
+    public void testNestedGetterWithGeneratedPlaceholders() {
+        Map<String, List<Customer>> byCity = groupToLists(customers, by(Customer.class).getAddress().getCity());
+
+        assertThat(byCity.get("South Park"), contains(kyle, randy));
+        assertThat(byCity.get("Toronto"), contains(terrance));
+    }
+
+    @Test
+    public void testPrimitiveOperationsWithGeneratedAccessors() {
+        assertThat(collectToIntArray(customers, field(Customer.class).getAge()), is(new int[]{10, 45, 40}));
+        assertThat(groupSumming(customers, by(Customer.class).getAddress().getCity(), of(Customer.class).getAge())
+                .get("South Park"), is(55L));
+    }
+
+    @Test
+    public void testPlaceholderOfEntityCallingGetterFromConstructor() {
+        Account first = new Account("1");
+        Account second = new Account("2");
+
+        Map<String, Account> byNumber = group(Arrays.asList(first, second), by(Account.class).getNumber());
+
+        assertThat(by(Account.class), instanceOf(Account_J7GroupAccessors.Placeholder.class));
+        assertThat(byNumber.get("2"), is(second));
+    }
+
+    @Test
+    public void testGetterDeclaringCheckedException() throws Exception {
+        Document saved = new Document("/tmp/saved");
+        Document draft = new Document();
+
+        Map<String, List<Document>> byPath = groupToLists(Arrays.asList(saved, draft), by(Document.class).getPath());
+
+        assertThat(by(Document.class), instanceOf(Document_J7GroupAccessors.Placeholder.class));
+        assertThat(byPath.get("/tmp/saved"), contains(saved));
+        assertThat(byPath.get(null), contains(draft));
+    }
+}
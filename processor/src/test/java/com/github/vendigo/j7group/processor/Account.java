@@ -0,0 +1,29 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.GenerateAccessors;
+
+/**
+ * Calls its own getter from constructor, so generated placeholder's getter is called before recorder is set.
+ */
+@GenerateAccessors
+public class Account {
+    private String number;
+    private String label;
+
+    public Account() {
+        this("none");
+    }
+
+    public Account(String number) {
+        this.number = number;
+        this.label = "Account " + getNumber();
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
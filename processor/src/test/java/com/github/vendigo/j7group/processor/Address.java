@@ -0,0 +1,19 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.GenerateAccessors;
+
+@GenerateAccessors
+public class Address {
+    private String city;
+
+    public Address() {
+    }
+
+    public Address(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        return city;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.GenerateAccessors;
+
+@GenerateAccessors
+public class Customer {
+    private String name;
+    private int age;
+    private Address address;
+
+    public Customer() {
+    }
+
+    public Customer(String name, int age, Address address) {
+        this.name = name;
+        this.age = age;
+        this.address = address;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public final boolean isAdult() {
+        return age >= 18;
+    }
+
+    @Override
+    public String toString() {
+        return "Customer{" +
+                "name='" + name + '\'' +
+                ", age=" + age +
+                '}';
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.vendigo.j7group.processor;
+
+import com.github.vendigo.j7group.accessor.GenerateAccessors;
+
+import java.io.IOException;
+
+/**
+ * Has getter which declares checked exception, generated accessor and placeholder have to compile with it.
+ */
+@GenerateAccessors
+public class Document {
+    private final String path;
+
+    public Document() {
+        this(null);
+    }
+
+    public Document(String path) {
+        this.path = path;
+    }
+
+    public String getPath() throws IOException {
+        if (path == null) {
+            throw new IOException("Document isn't saved");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+import net.sf.cglib.core.AbstractClassGenerator;
+import net.sf.cglib.core.ClassEmitter;
+import net.sf.cglib.core.CodeEmitter;
+import net.sf.cglib.core.Constants;
+import net.sf.cglib.core.EmitUtils;
+import net.sf.cglib.core.ReflectUtils;
+import net.sf.cglib.core.Signature;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates class implementing {@link Accessor} which simply calls given getter.
+ * For numeric getters it also implements primitive accessors, which the getter's type can be widened to.
+ * Class is defined in the package and class loader of the entity, so package private getters are accessible too.
+ */
+class AccessorGenerator extends AbstractClassGenerator {
+    private static final Source SOURCE = new Source(AccessorGenerator.class.getName());
+    private static final Type ACCESSOR = Type.getType(Accessor.class);
+    private static final Signature GET = new Signature("get", Constants.TYPE_OBJECT,
+            new Type[]{Constants.TYPE_OBJECT});
+    private static final PrimitiveGetter INT_GETTER = new PrimitiveGetter(IntAccessor.class, "getInt", Type.INT_TYPE);
+    private static final PrimitiveGetter LONG_GETTER = new PrimitiveGetter(LongAccessor.class, "getLong",
+            Type.LONG_TYPE);
+    private static final PrimitiveGetter DOUBLE_GETTER = new PrimitiveGetter(DoubleAccessor.class, "getDouble",
+            Type.DOUBLE_TYPE);
+
+    private final Class<?> entityClass;
+    private final Method method;
+
+    AccessorGenerator(Class<?> entityClass, Method method) {
+        super(SOURCE);
+        this.entityClass = entityClass;
+        this.method = method;
+        setNamePrefix(entityClass.getName());
+        setUseCache(false);
+    }
+
+    Accessor<?, ?> create() {
+        return (Accessor<?, ?>) super.create(method.toString());
+    }
+
+    @Override
+    protected ClassLoader getDefaultClassLoader() {
+        return entityClass.getClassLoader();
+    }
+
+    @Override
+    public void generateClass(ClassVisitor visitor) throws Exception {
+        Type entityType = Type.getType(entityClass);
+        Type returnType = Type.getType(method.getReturnType());
+        List<PrimitiveGetter> primitiveGetters = resolvePrimitiveGetters(method.getReturnType());
+
+        List<Type> interfaces = new ArrayList<>();
+        interfaces.add(ACCESSOR);
+        for (PrimitiveGetter primitiveGetter : primitiveGetters) {
+            interfaces.add(primitiveGetter.accessorType);
+        }
+
+        ClassEmitter ce = new ClassEmitter(visitor);
+        ce.begin_class(Constants.V1_2, Constants.ACC_PUBLIC, getClassName(), Constants.TYPE_OBJECT,
+                interfaces.toArray(new Type[interfaces.size()]), Constants.SOURCE_FILE);
+        EmitUtils.null_constructor(ce);
+
+        CodeEmitter e = ce.begin_method(Constants.ACC_PUBLIC, GET, null);
+        invokeGetter(e, entityType);
+        e.box(returnType);
+        e.return_value();
+        e.end_method();
+
+        for (PrimitiveGetter primitiveGetter : primitiveGetters) {
+            e = ce.begin_method(Constants.ACC_PUBLIC, primitiveGetter.signature, null);
+            invokeGetter(e, entityType);
+            e.cast_numeric(returnType, primitiveGetter.signature.getReturnType());
+            e.return_value();
+            e.end_method();
+        }
+
+        ce.end_class();
+    }
+
+    private void invokeGetter(CodeEmitter e, Type entityType) {
+        e.load_arg(0);
+        e.checkcast(entityType);
+        e.invoke(ReflectUtils.getMethodInfo(method), entityType);
+    }
+
+    private static List<PrimitiveGetter> resolvePrimitiveGetters(Class<?> returnType) {
+        List<PrimitiveGetter> primitiveGetters = new ArrayList<>(3);
+        if (returnType == int.class || returnType == short.class || returnType == byte.class
+                || returnType == char.class) {
+            primitiveGetters.add(INT_GETTER);
+        }
+        if (primitiveGetters.size() > 0 || returnType == long.class) {
+            primitiveGetters.add(LONG_GETTER);
+        }
+        if (primitiveGetters.size() > 0 || returnType == float.class || returnType == double.class) {
+            primitiveGetters.add(DOUBLE_GETTER);
+        }
+        return primitiveGetters;
+    }
+
+    @Override
+    protected Object firstInstance(Class type) throws Exception {
+        return ReflectUtils.newInstance(type);
+    }
+
+    @Override
+    protected Object nextInstance(Object instance) throws Exception {
+        return instance;
+    }
+
+    private static class PrimitiveGetter {
+        private final Type accessorType;
+        private final Signature signature;
+
+        PrimitiveGetter(Class<?> accessorClass, String methodName, Type primitiveType) {
+            this.accessorType = Type.getType(accessorClass);
+            this.signature = new Signature(methodName, primitiveType, new Type[]{Constants.TYPE_OBJECT});
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.GeneratedAccessors;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class AccessorHelper {
+    /**
+     * Compiled accessors per entity class. Like placeholders, they live as long as the entity class itself.
+     */
+    private final static ClassValue<ConcurrentMap<Method, Accessor<?, ?>>> accessors =
+            new ClassValue<ConcurrentMap<Method, Accessor<?, ?>>>() {
+                @Override
+                protected ConcurrentMap<Method, Accessor<?, ?>> computeValue(Class<?> entityClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private AccessorHelper() {
+    }
+
+    static Accessor<?, ?> getAccessor(Class<?> entityClass, Method method) {
+        ConcurrentMap<Method, Accessor<?, ?>> entityAccessors = accessors.get(entityClass);
+        Accessor<?, ?> accessor = entityAccessors.get(method);
+        J7GroupMetrics.accessorRequested(accessor != null);
+        if (accessor == null) {
+            accessor = createAccessor(entityClass, method);
+            Accessor<?, ?> existing = entityAccessors.putIfAbsent(method, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
+    private static Accessor<?, ?> createAccessor(Class<?> entityClass, Method method) {
+        GeneratedAccessors<?> generatedAccessors = GeneratedAccessorsLookup.find(entityClass);
+        if (generatedAccessors != null && method.getParameterTypes().length == 0) {
+            Accessor<?, ?> generated = generatedAccessors.getAccessor(method.getName());
+            if (generated != null) {
+                return generated;
+            }
+        }
+        if (isAccessibleFromPackageOf(entityClass, method)) {
+            try {
+                return new AccessorGenerator(entityClass, method).create();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return new ReflectiveAccessor<>(method);
+    }
+
+    private static boolean isAccessibleFromPackageOf(Class<?> entityClass, Method method) {
+        if (entityClass.getClassLoader() == null) {
+            return false;
+        }
+        int modifiers = method.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        return !Modifier.isPrivate(modifiers)
+                && declaringClass.getClassLoader() == entityClass.getClassLoader()
+                && packageName(declaringClass).equals(packageName(entityClass));
+    }
+
+    private static String packageName(Class<?> type) {
+        String className = type.getName();
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+}
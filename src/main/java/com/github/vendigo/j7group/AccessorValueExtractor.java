@@ -0,0 +1,18 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+class AccessorValueExtractor<T, V> implements ValueExtractor<T, V> {
+    private final Accessor<T, V> accessor;
+
+    AccessorValueExtractor(Accessor<T, V> accessor) {
+        this.accessor = accessor;
+    }
+
+    @Override
+    public V extract(T entity) {
+        return extractValue(accessor, entity);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.vendigo.j7group;
+
+import java.util.Map;
+
+/**
+ * Strategy which keeps single mutable accumulator per key instead of all grouped entities.
+ * When grouping is done, accumulators are replaced with results in the same map.
+ * @param <K> - type of key
+ * @param <T> - type of entity
+ * @param <A> - type of accumulator
+ * @param <R> - type of result
+ */
+abstract class AggregatingGroupStrategy<K, T, A, R> implements GroupStrategy<K, T, A> {
+
+    abstract A createAccumulator(T entity);
+
+    abstract void accumulate(A accumulator, T entity);
+
+    abstract void mergeAccumulators(A earlierAccumulator, A laterAccumulator);
+
+    abstract R result(A accumulator);
+
+    @Override
+    public void handleFirstOccurrence(K key, T newValue, Map<K, A> map) {
+        map.put(key, createAccumulator(newValue));
+    }
+
+    @Override
+    public void handleNonFirstOccurrence(K key, T newValue, A oldValue, Map<K, A> map) {
+        accumulate(oldValue, newValue);
+    }
+
+    @Override
+    public void handleMerge(K key, A earlierValue, A laterValue, Map<K, A> map) {
+        mergeAccumulators(earlierValue, laterValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<K, R> finish(Map<K, A> accumulators) {
+        Map<K, Object> results = (Map<K, Object>) (Map<K, ?>) accumulators;
+        for (Map.Entry<K, Object> entry : results.entrySet()) {
+            entry.setValue(result((A) entry.getValue()));
+        }
+        return (Map<K, R>) (Map<K, ?>) results;
+    }
+}
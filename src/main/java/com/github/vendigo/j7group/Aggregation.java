@@ -0,0 +1,5 @@
+package com.github.vendigo.j7group;
+
+enum Aggregation {
+    SUM, MIN, MAX
+}
@@ -0,0 +1,42 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractDouble;
+
+class AveragingGroupStrategy<K, T> extends AggregatingGroupStrategy<K, T, AveragingGroupStrategy.Average, Double> {
+    private final DoubleAccessor<T> fieldAccessor;
+
+    AveragingGroupStrategy(DoubleAccessor<T> fieldAccessor) {
+        this.fieldAccessor = fieldAccessor;
+    }
+
+    @Override
+    Average createAccumulator(T entity) {
+        Average average = new Average();
+        accumulate(average, entity);
+        return average;
+    }
+
+    @Override
+    void accumulate(Average accumulator, T entity) {
+        accumulator.sum += extractDouble(fieldAccessor, entity);
+        accumulator.count++;
+    }
+
+    @Override
+    void mergeAccumulators(Average earlierAccumulator, Average laterAccumulator) {
+        earlierAccumulator.sum += laterAccumulator.sum;
+        earlierAccumulator.count += laterAccumulator.count;
+    }
+
+    @Override
+    Double result(Average accumulator) {
+        return accumulator.sum / accumulator.count;
+    }
+
+    static class Average {
+        private double sum;
+        private long count;
+    }
+}
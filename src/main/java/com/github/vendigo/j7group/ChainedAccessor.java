@@ -0,0 +1,73 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+
+import java.util.Arrays;
+
+/**
+ * Accessor of nested property like {@code getAddress().getCity()}. Whole path is kept in one flat array
+ * and walked in one loop, however long the path is.
+ * Null safe: if any intermediate value is null, result is null, or zero for primitive accessors.
+ */
+class ChainedAccessor<T, V> implements Accessor<T, V>, IntAccessor<T>, LongAccessor<T>, DoubleAccessor<T> {
+    private final Accessor<Object, Object>[] path;
+    private final Accessor<Object, Object> last;
+
+    private ChainedAccessor(Accessor<Object, Object>[] path) {
+        this.path = path;
+        this.last = path[path.length - 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    static Accessor<?, ?> append(Accessor<?, ?> prefix, Accessor<?, ?> next) {
+        Accessor<Object, Object>[] path;
+        if (prefix instanceof ChainedAccessor) {
+            Accessor<Object, Object>[] prefixPath = ((ChainedAccessor<?, ?>) prefix).path;
+            path = Arrays.copyOf(prefixPath, prefixPath.length + 1);
+        } else {
+            path = new Accessor[2];
+            path[0] = (Accessor<Object, Object>) prefix;
+        }
+        path[path.length - 1] = (Accessor<Object, Object>) next;
+        return new ChainedAccessor<>(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(T entity) {
+        Object owner = ownerOfLast(entity);
+        return owner == null ? null : (V) last.get(owner);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int getInt(T entity) {
+        Object owner = ownerOfLast(entity);
+        return owner == null ? 0 : ((IntAccessor<Object>) last).getInt(owner);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public long getLong(T entity) {
+        Object owner = ownerOfLast(entity);
+        return owner == null ? 0L : ((LongAccessor<Object>) last).getLong(owner);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public double getDouble(T entity) {
+        Object owner = ownerOfLast(entity);
+        return owner == null ? 0.0 : ((DoubleAccessor<Object>) last).getDouble(owner);
+    }
+
+    private Object ownerOfLast(T entity) {
+        Object value = entity;
+        for (int i = 0; i < path.length - 1 && value != null; i++) {
+            value = path[i].get(value);
+        }
+        return value;
+    }
+}
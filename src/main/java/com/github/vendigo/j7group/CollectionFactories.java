@@ -0,0 +1,90 @@
+package com.github.vendigo.j7group;
+
+import java.util.*;
+
+/**
+ * Factories of standard collections for grouping operations.
+ * Usage example: {@code groupToCollections(persons, by(Person.class).getAge(), CollectionFactories.<Person>linkedHashSets())}
+ * @author Dmytro Marchenko
+ */
+public final class CollectionFactories {
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final CollectionFactory<ArrayList<Object>> ARRAY_LISTS = new CollectionFactory<ArrayList<Object>>() {
+        @Override
+        public ArrayList<Object> create(int expectedSize) {
+            return new ArrayList<>(expectedSize);
+        }
+    };
+
+    private static final CollectionFactory<LinkedList<Object>> LINKED_LISTS = new CollectionFactory<LinkedList<Object>>() {
+        @Override
+        public LinkedList<Object> create(int expectedSize) {
+            return new LinkedList<>();
+        }
+    };
+
+    private static final CollectionFactory<HashSet<Object>> HASH_SETS = new CollectionFactory<HashSet<Object>>() {
+        @Override
+        public HashSet<Object> create(int expectedSize) {
+            return new HashSet<>(hashCapacity(expectedSize));
+        }
+    };
+
+    private static final CollectionFactory<LinkedHashSet<Object>> LINKED_HASH_SETS =
+            new CollectionFactory<LinkedHashSet<Object>>() {
+                @Override
+                public LinkedHashSet<Object> create(int expectedSize) {
+                    return new LinkedHashSet<>(hashCapacity(expectedSize));
+                }
+            };
+
+    private CollectionFactories() {
+    }
+
+    /**
+     * @param <E> - type of elements
+     * @return factory of {@link ArrayList} presized to expected size
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CollectionFactory<List<E>> arrayLists() {
+        return (CollectionFactory<List<E>>) (CollectionFactory<?>) ARRAY_LISTS;
+    }
+
+    /**
+     * @param <E> - type of elements
+     * @return factory of {@link LinkedList}, expected size is ignored
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CollectionFactory<List<E>> linkedLists() {
+        return (CollectionFactory<List<E>>) (CollectionFactory<?>) LINKED_LISTS;
+    }
+
+    /**
+     * @param <E> - type of elements
+     * @return factory of {@link HashSet} which holds expected size without rehashing
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CollectionFactory<Set<E>> hashSets() {
+        return (CollectionFactory<Set<E>>) (CollectionFactory<?>) HASH_SETS;
+    }
+
+    /**
+     * @param <E> - type of elements
+     * @return factory of {@link LinkedHashSet} which holds expected size without rehashing
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CollectionFactory<Set<E>> linkedHashSets() {
+        return (CollectionFactory<Set<E>>) (CollectionFactory<?>) LINKED_HASH_SETS;
+    }
+
+    /**
+     * Capacity of hash based collection which fits expected size with default load factor.
+     */
+    static int hashCapacity(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return expectedSize < (1 << 30) ? (int) (expectedSize / DEFAULT_LOAD_FACTOR + 1) : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.vendigo.j7group;
+
+import java.util.Collection;
+
+/**
+ * Creates collections for grouped values, one collection per key.
+ * Common factories can be found in {@link CollectionFactories}.
+ * @param <C> - type of created collection
+ * @author Dmytro Marchenko
+ */
+public interface CollectionFactory<C extends Collection<?>> {
+
+    /**
+     * @param expectedSize - expected number of elements, factory may use it for presizing
+     * @return new empty collection
+     */
+    C create(int expectedSize);
+}
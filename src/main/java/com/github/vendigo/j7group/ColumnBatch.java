@@ -0,0 +1,64 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Values of several primitive fields of entities stored column by column in primitive arrays.
+ * Element {@code i} of each column belongs to the {@code i}-th entity of the source collection.
+ * Created by {@link ColumnProjection#project(java.util.Collection)}.
+ * @author Dmytro Marchenko
+ */
+public final class ColumnBatch {
+    private final Object[] columns;
+    private final int size;
+
+    ColumnBatch(Object[] columns, int size) {
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * @return number of rows, i.e. entities in the source collection
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int columnsCount() {
+        return columns.length;
+    }
+
+    /**
+     * @param index - index of the column in order of declaration
+     * @return values of int column, array is not copied
+     */
+    public int[] getIntColumn(int index) {
+        return column(index, int[].class);
+    }
+
+    /**
+     * @param index - index of the column in order of declaration
+     * @return values of long column, array is not copied
+     */
+    public long[] getLongColumn(int index) {
+        return column(index, long[].class);
+    }
+
+    /**
+     * @param index - index of the column in order of declaration
+     * @return values of double column, array is not copied
+     */
+    public double[] getDoubleColumn(int index) {
+        return column(index, double[].class);
+    }
+
+    private <A> A column(int index, Class<A> columnType) {
+        Object column = columns[index];
+        if (!columnType.isInstance(column)) {
+            throw new IllegalArgumentException("Column " + index + " is not " +
+                    columnType.getComponentType() + " column");
+        }
+        return columnType.cast(column);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Projects several primitive fields of entities into {@link ColumnBatch} in a single pass, without boxing.
+ * Created by {@link J7Group#columns(Class)}. Once columns are declared, projection can be reused.
+ * Usage example:
+ * <pre>
+ * {@code ColumnBatch batch = columns(Person.class)
+ *         .intColumn(field(Person.class).getAge())
+ *         .doubleColumn(field(Person.class).getSalary())
+ *         .project(persons);
+ * int[] ages = batch.getIntColumn(0);
+ * double[] salaries = batch.getDoubleColumn(1);}
+ * </pre>
+ * @param <T> - type of entities
+ * @author Dmytro Marchenko
+ */
+public final class ColumnProjection<T> {
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+
+    private final List<Object> accessors = new ArrayList<>();
+    private final List<Byte> types = new ArrayList<>();
+
+    ColumnProjection() {
+    }
+
+    /**
+     * Adds int column.
+     * @param field - placeholder for "field" construction
+     * @return this projection
+     */
+    public ColumnProjection<T> intColumn(int field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        return addColumn(ProxyHelper.<T>getFirstCalledIntAccessor(), INT);
+    }
+
+    /**
+     * Adds long column.
+     * @param field - placeholder for "field" construction
+     * @return this projection
+     */
+    public ColumnProjection<T> longColumn(long field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        return addColumn(ProxyHelper.<T>getFirstCalledLongAccessor(), LONG);
+    }
+
+    /**
+     * Adds double column.
+     * @param field - placeholder for "field" construction
+     * @return this projection
+     */
+    public ColumnProjection<T> doubleColumn(double field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        return addColumn(ProxyHelper.<T>getFirstCalledDoubleAccessor(), DOUBLE);
+    }
+
+    /**
+     * Reads all declared columns from entities of given collection in a single pass.
+     * @param from - given collection
+     * @return ColumnBatch with one row per entity
+     */
+    @SuppressWarnings("unchecked")
+    public ColumnBatch project(Collection<T> from) {
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        int size = from.size();
+        int columnsCount = types.size();
+        Object[] accessors = this.accessors.toArray();
+        byte[] types = new byte[columnsCount];
+        Object[] columns = new Object[columnsCount];
+        for (int column = 0; column < columnsCount; column++) {
+            types[column] = this.types.get(column);
+            columns[column] = types[column] == INT ? new int[size]
+                    : types[column] == LONG ? new long[size] : new double[size];
+        }
+
+        int row = 0;
+        for (T entity : from) {
+            for (int column = 0; column < columnsCount; column++) {
+                switch (types[column]) {
+                    case INT:
+                        ((int[]) columns[column])[row] = extractInt((IntAccessor<T>) accessors[column], entity);
+                        break;
+                    case LONG:
+                        ((long[]) columns[column])[row] = extractLong((LongAccessor<T>) accessors[column], entity);
+                        break;
+                    default:
+                        ((double[]) columns[column])[row] =
+                                extractDouble((DoubleAccessor<T>) accessors[column], entity);
+                }
+            }
+            row++;
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished("project", from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return new ColumnBatch(columns, size);
+    }
+
+    private ColumnProjection<T> addColumn(Object accessor, byte type) {
+        accessors.add(accessor);
+        types.add(type);
+        return this;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Keeps minimal or maximal value of some comparable field. Null values are ignored.
+ */
+class ComparableAggregatingGroupStrategy<K, T, V extends Comparable<? super V>>
+        extends AggregatingGroupStrategy<K, T, ComparableAggregatingGroupStrategy.Holder<V>, V> {
+    private final Accessor<T, V> fieldAccessor;
+    private final Aggregation aggregation;
+
+    ComparableAggregatingGroupStrategy(Accessor<T, V> fieldAccessor, Aggregation aggregation) {
+        this.fieldAccessor = fieldAccessor;
+        this.aggregation = aggregation;
+    }
+
+    @Override
+    Holder<V> createAccumulator(T entity) {
+        Holder<V> holder = new Holder<>();
+        holder.value = extractValue(fieldAccessor, entity);
+        return holder;
+    }
+
+    @Override
+    void accumulate(Holder<V> accumulator, T entity) {
+        accumulator.value = aggregate(accumulator.value, extractValue(fieldAccessor, entity));
+    }
+
+    @Override
+    void mergeAccumulators(Holder<V> earlierAccumulator, Holder<V> laterAccumulator) {
+        earlierAccumulator.value = aggregate(earlierAccumulator.value, laterAccumulator.value);
+    }
+
+    @Override
+    V result(Holder<V> accumulator) {
+        return accumulator.value;
+    }
+
+    private V aggregate(V accumulated, V value) {
+        if (accumulated == null) {
+            return value;
+        }
+        if (value == null) {
+            return accumulated;
+        }
+        int comparison = value.compareTo(accumulated);
+        boolean replace = aggregation == Aggregation.MIN ? comparison < 0 : comparison > 0;
+        return replace ? value : accumulated;
+    }
+
+    static class Holder<V> {
+        private V value;
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.Arrays;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Keeps top entities by some comparable field. Entities with null value of the field are ignored.
+ */
+class ComparableTopNGroupStrategy<K, T, V extends Comparable<? super V>> extends TopNGroupStrategy<K, T> {
+    private final Accessor<T, V> fieldAccessor;
+
+    ComparableTopNGroupStrategy(Accessor<T, V> fieldAccessor, int limit) {
+        super(limit);
+        this.fieldAccessor = fieldAccessor;
+    }
+
+    @Override
+    Heap<T> createHeap() {
+        return new ComparableHeap<>(fieldAccessor, limit);
+    }
+
+    private static class ComparableHeap<T, V extends Comparable<? super V>> extends Heap<T> {
+        private final Accessor<T, V> fieldAccessor;
+        private Object[] values;
+
+        ComparableHeap(Accessor<T, V> fieldAccessor, int limit) {
+            super(limit);
+            this.fieldAccessor = fieldAccessor;
+            this.values = new Object[capacity()];
+        }
+
+        @Override
+        boolean readValue(T entity, int slot) {
+            V value = extractValue(fieldAccessor, entity);
+            values[slot] = value;
+            return value != null;
+        }
+
+        @Override
+        void copyValue(Heap<T> from, int fromSlot, int toSlot) {
+            values[toSlot] = ((ComparableHeap<T, ?>) from).values[fromSlot];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        int compareValues(int slot, int anotherSlot) {
+            return ((V) values[slot]).compareTo((V) values[anotherSlot]);
+        }
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void swapValues(int slot, int anotherSlot) {
+            Object value = values[slot];
+            values[slot] = values[anotherSlot];
+            values[anotherSlot] = value;
+        }
+    }
+}
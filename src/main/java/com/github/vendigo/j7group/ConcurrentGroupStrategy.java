@@ -0,0 +1,94 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityException;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Atomic counterpart of {@link GroupStrategy} for {@link ConcurrentGrouper}.
+ * Keys are never null here, null key is masked by the grouper.
+ * @param <T> - type of grouped entities
+ * @param <B> - type of bucket kept in the concurrent map while accumulating
+ * @param <C> - type of values in the resulting map
+ */
+abstract class ConcurrentGroupStrategy<T, B, C> {
+
+    abstract void accept(Object key, T entity, ConcurrentMap<Object, B> buckets);
+
+    abstract C result(B bucket);
+
+    static <T> ConcurrentGroupStrategy<T, T, T> forPolicy(KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return new SingleValue<>(keyAmbiguityPolicy);
+    }
+
+    static <T, C extends Collection<T>> ConcurrentGroupStrategy<T, Queue<T>, C> toCollections(
+            CollectionFactory<C> collectionFactory) {
+        return new ToCollection<>(collectionFactory);
+    }
+
+    private static class SingleValue<T> extends ConcurrentGroupStrategy<T, T, T> {
+        private final KeyAmbiguityPolicy keyAmbiguityPolicy;
+
+        SingleValue(KeyAmbiguityPolicy keyAmbiguityPolicy) {
+            this.keyAmbiguityPolicy = keyAmbiguityPolicy;
+        }
+
+        @Override
+        void accept(Object key, T entity, ConcurrentMap<Object, T> buckets) {
+            switch (keyAmbiguityPolicy) {
+                case KEEP_FIRST:
+                    buckets.putIfAbsent(key, entity);
+                    break;
+                case FAIL_FAST:
+                    if (buckets.putIfAbsent(key, entity) != null) {
+                        throw new KeyAmbiguityException("Key: " + ConcurrentGrouper.unmaskNull(key)
+                                + " has more than one value");
+                    }
+                    break;
+                default:
+                    buckets.put(key, entity);
+            }
+        }
+
+        @Override
+        T result(T bucket) {
+            return bucket;
+        }
+    }
+
+    /**
+     * Collects entities to lock-free queue per key, so producers contend only on equal keys.
+     * Queues are copied to collections of requested type when grouping is finished.
+     */
+    private static class ToCollection<T, C extends Collection<T>> extends ConcurrentGroupStrategy<T, Queue<T>, C> {
+        private final CollectionFactory<C> collectionFactory;
+
+        ToCollection(CollectionFactory<C> collectionFactory) {
+            this.collectionFactory = collectionFactory;
+        }
+
+        @Override
+        void accept(Object key, T entity, ConcurrentMap<Object, Queue<T>> buckets) {
+            Queue<T> bucket = buckets.get(key);
+            if (bucket == null) {
+                Queue<T> newBucket = new ConcurrentLinkedQueue<>();
+                bucket = buckets.putIfAbsent(key, newBucket);
+                if (bucket == null) {
+                    bucket = newBucket;
+                }
+            }
+            bucket.add(entity);
+        }
+
+        @Override
+        C result(Queue<T> bucket) {
+            C collection = collectionFactory.create(bucket.size());
+            collection.addAll(bucket);
+            return collection;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Groups elements which are fed by many threads at the same time into one result.
+ * Created by {@link J7Group#concurrentGrouper(Object)} and similar methods.
+ * <p>
+ * Accumulates into {@link ConcurrentHashMap} with lock-free bucket per key, so producers don't serialize
+ * on a common lock. {@link com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy#FAIL_FAST} is checked
+ * atomically: exactly one of producers with equal keys succeeds, others get exception.
+ * With {@link com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy#KEEP_FIRST} and
+ * {@link com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy#KEEP_LAST} first and last mean
+ * first and last accepted, and order of elements within groups is the order they were accepted.
+ * {@link #finish()} should be called after all producers are done.
+ * Usage example:
+ * <pre>
+ * {@code ConcurrentGrouper<Person, Integer, List<Person>> grouper = concurrentGrouperToLists(by(Person.class).getAge());
+ * // in each producer thread
+ * grouper.acceptAll(partOfFeed);
+ * // when all producers are done
+ * Map<Integer, List<Person>> personsByAge = grouper.finish();}
+ * </pre>
+ * @param <T> - type of grouped elements
+ * @param <K> - type of field for grouping
+ * @param <C> - type of values in the resulting map
+ * @author Dmytro Marchenko
+ */
+public final class ConcurrentGrouper<T, K, C> {
+    private static final Object NULL_KEY = new Object();
+
+    private final Accessor<T, K> keyAccessor;
+    private final ConcurrentGroupStrategy<T, Object, C> groupStrategy;
+    private final ConcurrentMap<Object, Object> buckets = new ConcurrentHashMap<>();
+    private volatile boolean finished;
+
+    @SuppressWarnings("unchecked")
+    <B> ConcurrentGrouper(Accessor<T, K> keyAccessor, ConcurrentGroupStrategy<T, B, C> groupStrategy) {
+        this.keyAccessor = keyAccessor;
+        this.groupStrategy = (ConcurrentGroupStrategy<T, Object, C>) groupStrategy;
+    }
+
+    /**
+     * Adds next element to the grouping. Can be called from many threads at the same time.
+     * @param element - next element
+     * @return this grouper
+     */
+    public ConcurrentGrouper<T, K, C> accept(T element) {
+        checkNotFinished();
+        groupStrategy.accept(maskNull(extractValue(keyAccessor, element)), element, buckets);
+        return this;
+    }
+
+    /**
+     * Adds all given elements to the grouping. Can be called from many threads at the same time.
+     * @param elements - next elements
+     * @return this grouper
+     */
+    public ConcurrentGrouper<T, K, C> acceptAll(Iterable<? extends T> elements) {
+        checkNotFinished();
+        Iterator<? extends T> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            T element = iterator.next();
+            groupStrategy.accept(maskNull(extractValue(keyAccessor, element)), element, buckets);
+        }
+        return this;
+    }
+
+    /**
+     * Finishes grouping. Grouper can't accept elements after that.
+     * @return map with all accepted elements grouped
+     */
+    public Map<K, C> finish() {
+        checkNotFinished();
+        finished = true;
+        Map<K, C> result = new HashMap<>(CollectionFactories.hashCapacity(buckets.size()));
+        for (Map.Entry<Object, Object> bucket : buckets.entrySet()) {
+            result.put(ConcurrentGrouper.<K>unmaskNull(bucket.getKey()), groupStrategy.result(bucket.getValue()));
+        }
+        return result;
+    }
+
+    private void checkNotFinished() {
+        if (finished) {
+            throw new IllegalStateException("Grouping is already finished");
+        }
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.vendigo.j7group;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Set backed by {@link ConcurrentHashMap}, which compares elements by identity,
+ * so elements may be found and removed after fields used by their equals and hashCode change.
+ */
+class ConcurrentIdentitySet<E> extends AbstractSet<E> {
+    private static final CollectionFactory<ConcurrentIdentitySet<Object>> FACTORY =
+            new CollectionFactory<ConcurrentIdentitySet<Object>>() {
+                @Override
+                public ConcurrentIdentitySet<Object> create(int expectedSize) {
+                    return new ConcurrentIdentitySet<>(expectedSize);
+                }
+            };
+
+    private final ConcurrentMap<IdentityKey, E> map;
+
+    ConcurrentIdentitySet(int initialCapacity) {
+        map = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> CollectionFactory<Set<E>> factory() {
+        return (CollectionFactory<Set<E>>) (CollectionFactory<?>) FACTORY;
+    }
+
+    @Override
+    public boolean add(E element) {
+        return map.put(new IdentityKey(element), element) == null;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return map.remove(new IdentityKey(element)) != null;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return map.containsKey(new IdentityKey(element));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.values().iterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.vendigo.j7group;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Creates instances without running constructors of their class, the same way deserialization does.
+ * Used for placeholders of nested getters, as they are created for return types of plain getters too,
+ * and constructors of those types may have side effects.
+ * Relies on {@code sun.reflect.ReflectionFactory}, which is looked up reflectively, so it may be unavailable.
+ */
+class ConstructorlessInstantiator {
+    private static final Object reflectionFactory;
+    private static final Method newConstructorForSerialization;
+    private static final Constructor<Object> objectConstructor;
+
+    static {
+        Object factory = null;
+        Method method = null;
+        Constructor<Object> constructor = null;
+        try {
+            Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            method = factoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+            constructor = Object.class.getConstructor();
+        } catch (Exception e) {
+            factory = null;
+        }
+        reflectionFactory = factory;
+        newConstructorForSerialization = method;
+        objectConstructor = constructor;
+    }
+
+    private ConstructorlessInstantiator() {
+    }
+
+    /**
+     * @return new instance with all fields set to default values, null if it can't be created
+     */
+    static Object newInstance(Class<?> type) {
+        if (reflectionFactory == null) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = (Constructor<?>) newConstructorForSerialization.invoke(reflectionFactory,
+                    type, objectConstructor);
+            return constructor.newInstance();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.vendigo.j7group;
+
+class CountingGroupStrategy<K, T> extends AggregatingGroupStrategy<K, T, CountingGroupStrategy.Counter, Long> {
+
+    @Override
+    Counter createAccumulator(T entity) {
+        Counter counter = new Counter();
+        counter.count = 1;
+        return counter;
+    }
+
+    @Override
+    void accumulate(Counter accumulator, T entity) {
+        accumulator.count++;
+    }
+
+    @Override
+    void mergeAccumulators(Counter earlierAccumulator, Counter laterAccumulator) {
+        earlierAccumulator.count += laterAccumulator.count;
+    }
+
+    @Override
+    Long result(Counter accumulator) {
+        return accumulator.count;
+    }
+
+    static class Counter {
+        private long count;
+    }
+}
@@ -0,0 +1,239 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityException;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+import com.github.vendigo.j7group.primitive.DoubleKeyMap;
+import com.github.vendigo.j7group.primitive.IntHashSet;
+import com.github.vendigo.j7group.primitive.LongHashSet;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Removes entities with repeated keys, keeping the order of the collection. Only the set of seen keys is kept,
+ * not a map from key to entity. For {@link KeyAmbiguityPolicy#KEEP_LAST} the collection is scanned from the end,
+ * so the last occurrence is the first one seen.
+ */
+class DistinctHelper {
+    private DistinctHelper() {
+    }
+
+    static <K, T> List<T> distinctBy(Collection<T> from, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        List<T> distinct = keepDistinct(from, keyAccessor, keyAmbiguityPolicy);
+        if (measured) {
+            J7GroupMetrics.operationFinished("distinctBy", from, distinct.size(), startNanos);
+        }
+        return distinct;
+    }
+
+    private static <K, T> List<T> keepDistinct(Collection<T> from, Accessor<T, K> keyAccessor,
+                                              KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        Set<K> seenKeys = new HashSet<>();
+        List<T> distinct = new ArrayList<>();
+
+        if (keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+            List<T> entities = ParallelGroupHelper.asRandomAccessList(from);
+            for (int i = entities.size() - 1; i >= 0; i--) {
+                T entity = entities.get(i);
+                if (seenKeys.add(extractValue(keyAccessor, entity))) {
+                    distinct.add(entity);
+                }
+            }
+            Collections.reverse(distinct);
+            return distinct;
+        }
+
+        for (T entity : from) {
+            K key = extractValue(keyAccessor, entity);
+            if (seenKeys.add(key)) {
+                distinct.add(entity);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+        return distinct;
+    }
+
+    static <T> List<T> distinctByInt(Collection<T> from, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        IntAccessor<T> keyAccessor = getFirstCalledIntAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        List<T> distinct = keepDistinct(from, keyAccessor, keyAmbiguityPolicy);
+        if (measured) {
+            J7GroupMetrics.operationFinished("distinctByInt", from, distinct.size(), startNanos);
+        }
+        return distinct;
+    }
+
+    private static <T> List<T> keepDistinct(Collection<T> from, IntAccessor<T> keyAccessor,
+                                              KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        IntHashSet seenKeys = new IntHashSet();
+        List<T> distinct = new ArrayList<>();
+
+        if (keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+            List<T> entities = ParallelGroupHelper.asRandomAccessList(from);
+            for (int i = entities.size() - 1; i >= 0; i--) {
+                T entity = entities.get(i);
+                if (seenKeys.add(extractInt(keyAccessor, entity))) {
+                    distinct.add(entity);
+                }
+            }
+            Collections.reverse(distinct);
+            return distinct;
+        }
+
+        for (T entity : from) {
+            int key = extractInt(keyAccessor, entity);
+            if (seenKeys.add(key)) {
+                distinct.add(entity);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+        return distinct;
+    }
+
+    static <T> List<T> distinctByLong(Collection<T> from, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        LongAccessor<T> keyAccessor = getFirstCalledLongAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        List<T> distinct = keepDistinct(from, keyAccessor, keyAmbiguityPolicy);
+        if (measured) {
+            J7GroupMetrics.operationFinished("distinctByLong", from, distinct.size(), startNanos);
+        }
+        return distinct;
+    }
+
+    private static <T> List<T> keepDistinct(Collection<T> from, LongAccessor<T> keyAccessor,
+                                              KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        LongHashSet seenKeys = new LongHashSet();
+        List<T> distinct = new ArrayList<>();
+
+        if (keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+            List<T> entities = ParallelGroupHelper.asRandomAccessList(from);
+            for (int i = entities.size() - 1; i >= 0; i--) {
+                T entity = entities.get(i);
+                if (seenKeys.add(extractLong(keyAccessor, entity))) {
+                    distinct.add(entity);
+                }
+            }
+            Collections.reverse(distinct);
+            return distinct;
+        }
+
+        for (T entity : from) {
+            long key = extractLong(keyAccessor, entity);
+            if (seenKeys.add(key)) {
+                distinct.add(entity);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+        return distinct;
+    }
+
+    static <T> List<T> distinctByDouble(Collection<T> from, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        DoubleAccessor<T> keyAccessor = getFirstCalledDoubleAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        List<T> distinct = keepDistinct(from, keyAccessor, keyAmbiguityPolicy);
+        if (measured) {
+            J7GroupMetrics.operationFinished("distinctByDouble", from, distinct.size(), startNanos);
+        }
+        return distinct;
+    }
+
+    /**
+     * Seen values are kept as bits of doubles, so they are compared like {@link DoubleKeyMap} compares keys.
+     */
+    private static <T> List<T> keepDistinct(Collection<T> from, DoubleAccessor<T> keyAccessor,
+                                              KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        LongHashSet seenKeys = new LongHashSet();
+        List<T> distinct = new ArrayList<>();
+
+        if (keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+            List<T> entities = ParallelGroupHelper.asRandomAccessList(from);
+            for (int i = entities.size() - 1; i >= 0; i--) {
+                T entity = entities.get(i);
+                if (seenKeys.add(Double.doubleToLongBits(extractDouble(keyAccessor, entity)))) {
+                    distinct.add(entity);
+                }
+            }
+            Collections.reverse(distinct);
+            return distinct;
+        }
+
+        for (T entity : from) {
+            double key = extractDouble(keyAccessor, entity);
+            if (seenKeys.add(Double.doubleToLongBits(key))) {
+                distinct.add(entity);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+        return distinct;
+    }
+
+    static <K, T> Iterator<T> distinctIterator(Iterable<T> elements) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        return new DistinctIterator<>(elements.iterator(), keyAccessor);
+    }
+
+    /**
+     * Lazily skips entities with already seen keys, keeping the first occurrence.
+     */
+    private static class DistinctIterator<K, T> implements Iterator<T> {
+        private final Iterator<T> source;
+        private final Accessor<T, K> keyAccessor;
+        private final Set<K> seenKeys = new HashSet<>();
+        private T next;
+        private boolean nextFound;
+
+        DistinctIterator(Iterator<T> source, Accessor<T, K> keyAccessor) {
+            this.source = source;
+            this.keyAccessor = keyAccessor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!nextFound && source.hasNext()) {
+                T entity = source.next();
+                if (seenKeys.add(extractValue(keyAccessor, entity))) {
+                    next = entity;
+                    nextFound = true;
+                }
+            }
+            return nextFound;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T entity = next;
+            next = null;
+            nextFound = false;
+            return entity;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
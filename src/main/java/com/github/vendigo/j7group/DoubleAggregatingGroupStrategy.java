@@ -0,0 +1,53 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractDouble;
+
+class DoubleAggregatingGroupStrategy<K, T>
+        extends AggregatingGroupStrategy<K, T, DoubleAggregatingGroupStrategy.DoubleAccumulator, Double> {
+    private final DoubleAccessor<T> fieldAccessor;
+    private final Aggregation aggregation;
+
+    DoubleAggregatingGroupStrategy(DoubleAccessor<T> fieldAccessor, Aggregation aggregation) {
+        this.fieldAccessor = fieldAccessor;
+        this.aggregation = aggregation;
+    }
+
+    @Override
+    DoubleAccumulator createAccumulator(T entity) {
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        accumulator.value = extractDouble(fieldAccessor, entity);
+        return accumulator;
+    }
+
+    @Override
+    void accumulate(DoubleAccumulator accumulator, T entity) {
+        accumulator.value = aggregate(accumulator.value, extractDouble(fieldAccessor, entity));
+    }
+
+    @Override
+    void mergeAccumulators(DoubleAccumulator earlierAccumulator, DoubleAccumulator laterAccumulator) {
+        earlierAccumulator.value = aggregate(earlierAccumulator.value, laterAccumulator.value);
+    }
+
+    @Override
+    Double result(DoubleAccumulator accumulator) {
+        return accumulator.value;
+    }
+
+    private double aggregate(double accumulated, double value) {
+        switch (aggregation) {
+            case MIN:
+                return Math.min(accumulated, value);
+            case MAX:
+                return Math.max(accumulated, value);
+            default:
+                return accumulated + value;
+        }
+    }
+
+    static class DoubleAccumulator {
+        private double value;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+
+import java.util.Arrays;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractDouble;
+
+class DoubleTopNGroupStrategy<K, T> extends TopNGroupStrategy<K, T> {
+    private final DoubleAccessor<T> fieldAccessor;
+
+    DoubleTopNGroupStrategy(DoubleAccessor<T> fieldAccessor, int limit) {
+        super(limit);
+        this.fieldAccessor = fieldAccessor;
+    }
+
+    @Override
+    Heap<T> createHeap() {
+        return new DoubleHeap<>(fieldAccessor, limit);
+    }
+
+    private static class DoubleHeap<T> extends Heap<T> {
+        private final DoubleAccessor<T> fieldAccessor;
+        private double[] values;
+
+        DoubleHeap(DoubleAccessor<T> fieldAccessor, int limit) {
+            super(limit);
+            this.fieldAccessor = fieldAccessor;
+            this.values = new double[capacity()];
+        }
+
+        @Override
+        boolean readValue(T entity, int slot) {
+            values[slot] = extractDouble(fieldAccessor, entity);
+            return true;
+        }
+
+        @Override
+        void copyValue(Heap<T> from, int fromSlot, int toSlot) {
+            values[toSlot] = ((DoubleHeap<T>) from).values[fromSlot];
+        }
+
+        @Override
+        int compareValues(int slot, int anotherSlot) {
+            return Double.compare(values[slot], values[anotherSlot]);
+        }
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void swapValues(int slot, int anotherSlot) {
+            double value = values[slot];
+            values[slot] = values[anotherSlot];
+            values[anotherSlot] = value;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.primitive.IntHashSet;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+import static com.github.vendigo.j7group.ProxyHelper.getFirstCalledAccessor;
+
+/**
+ * Finds duplicated field values without keeping set of all values.
+ * First only hash codes of values are stored in int array and checked with {@link IntHashSet},
+ * which gives candidates: hash codes seen more than once. Then only entities with candidate hash codes
+ * are grouped by the value itself, and groups with single entity (hash collisions) are dropped.
+ * So memory is few ints per entity plus groups of candidates, instead of set entry per distinct value.
+ */
+class DuplicatesHelper {
+    private DuplicatesHelper() {
+    }
+
+    static <T, V> Map<V, List<T>> findDuplicates(Collection<T> in, boolean parallel) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        Accessor<T, V> fieldAccessor = getFirstCalledAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        Map<V, List<T>> duplicates = groupDuplicates(in, fieldAccessor, parallel);
+        if (measured) {
+            J7GroupMetrics.operationFinished(parallel ? "parallelFindDuplicates" : "findDuplicates", in,
+                    duplicates.size(), startNanos);
+        }
+        return duplicates;
+    }
+
+    static <T, V> Map<V, Integer> countDuplicates(Collection<T> in, boolean parallel) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        Accessor<T, V> fieldAccessor = getFirstCalledAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        Map<V, List<T>> duplicates = groupDuplicates(in, fieldAccessor, parallel);
+        Map<V, Integer> counts = new HashMap<>(CollectionFactories.hashCapacity(duplicates.size()));
+        for (Map.Entry<V, List<T>> duplicate : duplicates.entrySet()) {
+            counts.put(duplicate.getKey(), duplicate.getValue().size());
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished("countDuplicates", in, counts.size(), startNanos);
+        }
+        return counts;
+    }
+
+    private static <T, V> Map<V, List<T>> groupDuplicates(Collection<T> in, Accessor<T, V> fieldAccessor,
+                                                          boolean parallel) {
+        List<T> entities = ParallelGroupHelper.asRandomAccessList(in);
+        int[] hashes = parallel ? ParallelGroupHelper.parallelHashes(entities, fieldAccessor)
+                : hashes(entities, fieldAccessor);
+
+        IntHashSet candidates = duplicatedHashes(hashes);
+        Map<V, List<T>> groups = new HashMap<>();
+        if (candidates.isEmpty()) {
+            return groups;
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            if (candidates.contains(hashes[i])) {
+                T entity = entities.get(i);
+                V value = extractValue(fieldAccessor, entity);
+                List<T> group = groups.get(value);
+                if (group == null) {
+                    group = new ArrayList<>(2);
+                    groups.put(value, group);
+                }
+                group.add(entity);
+            }
+        }
+
+        Iterator<List<T>> iterator = groups.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().size() < 2) {
+                iterator.remove();
+            }
+        }
+        return groups;
+    }
+
+    static <T, V> int[] hashes(List<T> entities, Accessor<T, V> fieldAccessor) {
+        int[] hashes = new int[entities.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = hashOf(extractValue(fieldAccessor, entities.get(i)));
+        }
+        return hashes;
+    }
+
+    static int hashOf(Object value) {
+        return value == null ? 0 : value.hashCode();
+    }
+
+    private static IntHashSet duplicatedHashes(int[] hashes) {
+        IntHashSet seen = new IntHashSet(hashes.length);
+        IntHashSet duplicated = new IntHashSet();
+        for (int hash : hashes) {
+            if (!seen.add(hash)) {
+                duplicated.add(hash);
+            }
+        }
+        return duplicated;
+    }
+}
@@ -14,4 +14,9 @@ class FailFastGroupStrategy<K, V> implements GroupStrategy<K, V, V> {
     public void handleNonFirstOccurrence(K key, V newValue, V oldValue, Map<K, V> map) {
         throw new KeyAmbiguityException("Key: "+key+" has more than one value");
     }
+
+    @Override
+    public void handleMerge(K key, V earlierValue, V laterValue, Map<K, V> map) {
+        throw new KeyAmbiguityException("Key: "+key+" has more than one value");
+    }
 }
@@ -0,0 +1,51 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.GeneratedAccessors;
+
+/**
+ * Finds accessors generated at compile time for entity class. The lookup is done once per entity class.
+ */
+class GeneratedAccessorsLookup {
+    private static final Object NOT_GENERATED = new Object();
+
+    private final static ClassValue<Object> generatedAccessors = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> entityClass) {
+            ClassLoader classLoader = entityClass.getClassLoader();
+            if (classLoader == null) {
+                return NOT_GENERATED;
+            }
+            try {
+                Class<?> generatedClass = Class.forName(generatedClassName(entityClass), true, classLoader);
+                if (GeneratedAccessors.class.isAssignableFrom(generatedClass)) {
+                    return generatedClass.newInstance();
+                }
+            } catch (ClassNotFoundException e) {
+                return NOT_GENERATED;
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            return NOT_GENERATED;
+        }
+    };
+
+    private GeneratedAccessorsLookup() {
+    }
+
+    /**
+     * @return generated accessors of the entity class, or null if they were not generated
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedAccessors<T> find(Class<T> entityClass) {
+        Object found = generatedAccessors.get(entityClass);
+        return found == NOT_GENERATED ? null : (GeneratedAccessors<T>) found;
+    }
+
+    static String generatedClassName(Class<?> entityClass) {
+        String className = entityClass.getName();
+        int lastDot = className.lastIndexOf('.');
+        String packagePrefix = className.substring(0, lastDot + 1);
+        return packagePrefix + className.substring(lastDot + 1).replace('$', '_')
+                + GeneratedAccessors.CLASS_NAME_SUFFIX;
+    }
+}
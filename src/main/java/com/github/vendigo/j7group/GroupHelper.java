@@ -1,5 +1,6 @@
 package com.github.vendigo.j7group;
 
+import com.github.vendigo.j7group.accessor.Accessor;
 import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
 
 import java.util.*;
@@ -13,7 +14,7 @@ class GroupHelper {
     private GroupHelper() {
     }
 
-    private static void checkPrepositions(J7GroupPrepositions.Preposition... prepositions) {
+    static void checkPrepositions(J7GroupPrepositions.Preposition... prepositions) {
         try {
             for (int i = 0; i < prepositions.length; i++) {
                 checkPreposition(prepositions[i], i);
@@ -31,59 +32,163 @@ class GroupHelper {
         }
     }
 
+    static void checkTopNLimit(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Number of top entities should be positive: " + n);
+        }
+    }
+
     static <T, V> boolean checkUniqueness(Collection<T> in) {
         checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        return isUnique(in, ProxyHelper.<T, V>getFirstCalledAccessor());
+    }
 
+    static <T, V> boolean isUnique(Collection<T> in, Accessor<T, V> fieldAccessor) {
         Set<V> uniqueElements = new HashSet<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
 
+        boolean unique = true;
         for (T entity : in) {
-            V fieldValue = extractFirstArgument(entity);
+            V fieldValue = extractValue(fieldAccessor, entity);
             if (!uniqueElements.add(fieldValue)) {
-                return false;
+                unique = false;
+                break;
             }
         }
-        return true;
+
+        if (measured) {
+            J7GroupMetrics.operationFinished("isUniqueIn", in, uniqueElements.size(), startNanos);
+        }
+        return unique;
     }
 
-    @SuppressWarnings("ConstantConditions")
-    static <T, V> Collection<V> genericCollect(Collection<T> from, Class<? extends Collection> collectionClass,
-                                               int initialCapacity) {
+    static <T, V, C extends Collection<V>> C genericCollect(String operation, Collection<T> from,
+                                                            CollectionFactory<C> collectionFactory) {
         checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
-        Collection<V> collected = createCollectionInstance(collectionClass, initialCapacity);
+        return collectWith(operation, from, ProxyHelper.<T, V>getFirstCalledAccessor(), collectionFactory);
+    }
+
+    /**
+     * @param operation - name of the public operation, reported to {@link J7GroupMetrics}
+     */
+    static <T, V, C extends Collection<V>> C collectWith(String operation, Collection<T> from,
+                                                         Accessor<T, V> fieldAccessor,
+                                                         CollectionFactory<C> collectionFactory) {
+        C collected = collectionFactory.create(from.size());
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
 
         for (T entity : from) {
-            collected.add(ProxyHelper.<V>extractFirstArgument(entity));
+            collected.add(extractValue(fieldAccessor, entity));
         }
 
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, J7GroupMetrics.entityClassOf(from), from.size(),
+                    J7GroupMetrics.NO_KEYS, startNanos);
+        }
         return collected;
     }
 
+    static <T, V> List<V> createProjectedList(List<T> from, boolean memoize) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        Accessor<T, V> fieldAccessor = getFirstCalledAccessor();
+        return ProjectedList.create(from, fieldAccessor, memoize);
+    }
+
     static <T> List<T> collectWithPredicate(Collection<T> from) {
         boolean desiredValue = extractDesiredValue();
+        return filter(from, ProxyHelper.<T, Boolean>getFirstCalledAccessor(), desiredValue);
+    }
 
+    static <T> List<T> filter(Collection<T> from, Accessor<T, Boolean> predicateAccessor, boolean desiredValue) {
         List<T> collected = new ArrayList<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
         for (T entry : from) {
-            if (desiredValue == (Boolean) extractFirstArgument(entry)) {
+            if (desiredValue == extractValue(predicateAccessor, entry)) {
                 collected.add(entry);
             }
         }
 
+        if (measured) {
+            J7GroupMetrics.operationFinished("collect", from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
         return collected;
     }
 
     static <T> Collection<T> removeByPredicate(Collection<T> from) {
-        boolean desiredValue = extractDesiredValue();
+        return filterInPlace("removeFrom", from, extractDesiredValue(), true);
+    }
+
+    static <T> Collection<T> retainByPredicate(Collection<T> from) {
+        return filterInPlace("retainIn", from, extractDesiredValue(), false);
+    }
 
-        Iterator<T> iterator = from.iterator();
-        while (iterator.hasNext()) {
-            T element = iterator.next();
-            if (desiredValue == (Boolean)extractFirstArgument(element)) {
-                iterator.remove();
+    /**
+     * Removes elements for which predicate matches desired value, or doesn't match it if {@code removeMatching}
+     * is false. Random access lists are compacted in a single pass instead of removing elements one by one,
+     * which would shift the tail on each removal.
+     * @param operation - name of the public operation, reported to {@link J7GroupMetrics}
+     */
+    private static <T> Collection<T> filterInPlace(String operation, Collection<T> from, boolean desiredValue,
+                                                   boolean removeMatching) {
+        Accessor<T, Boolean> predicateAccessor = getFirstCalledAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        // Sampled before filtering, as the collection shrinks
+        Class<?> entityClass = measured ? J7GroupMetrics.entityClassOf(from) : null;
+        int elementsCount = from.size();
+
+        if (from instanceof List && from instanceof RandomAccess) {
+            compact((List<T>) from, predicateAccessor, desiredValue, removeMatching);
+        } else {
+            Iterator<T> iterator = from.iterator();
+            while (iterator.hasNext()) {
+                T element = iterator.next();
+                if ((desiredValue == extractValue(predicateAccessor, element)) == removeMatching) {
+                    iterator.remove();
+                }
             }
         }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, entityClass, elementsCount, J7GroupMetrics.NO_KEYS,
+                    startNanos);
+        }
         return from;
     }
 
+    /**
+     * Predicate is evaluated for all elements before the list is touched, and the list is shrunk before
+     * kept elements are moved, so if the predicate fails or the list can't be resized, it is left unchanged.
+     */
+    private static <T> void compact(List<T> list, Accessor<T, Boolean> predicateAccessor, boolean desiredValue,
+                                    boolean removeMatching) {
+        int size = list.size();
+        int firstRemoved = -1;
+        List<T> keptAfterFirstRemoved = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            T element = list.get(i);
+            if ((desiredValue == extractValue(predicateAccessor, element)) != removeMatching) {
+                if (firstRemoved >= 0) {
+                    keptAfterFirstRemoved.add(element);
+                }
+            } else if (firstRemoved < 0) {
+                firstRemoved = i;
+            }
+        }
+        if (firstRemoved < 0) {
+            return;
+        }
+
+        int kept = firstRemoved + keptAfterFirstRemoved.size();
+        list.subList(kept, size).clear();
+        for (int i = 0; i < keptAfterFirstRemoved.size(); i++) {
+            list.set(firstRemoved + i, keptAfterFirstRemoved.get(i));
+        }
+    }
+
     private static boolean extractDesiredValue() {
         J7GroupPrepositions.Preposition calledPreposition = ProxyHelper.getCalledPreposition(FIRST_PREPOSITION_INDEX);
         try {
@@ -102,27 +207,170 @@ class GroupHelper {
         }
     }
 
-    static <K, V, C, T> Map<K, C> genericGroup(Collection<T> collection, GroupStrategy<K, V, C> groupStrategy,
+    static <K, V, C, T> Map<K, C> genericGroup(String operation, Iterable<T> collection,
+                                               GroupStrategy<K, V, C> groupStrategy,
                                                ValueExtractor<T, V> valueExtractor,
                                                J7GroupPrepositions.Preposition... expectedPrepositions) {
+        return genericGroup(operation, collection, groupStrategy, valueExtractor, 0, expectedPrepositions);
+    }
+
+    /**
+     * @param operation - name of the public operation, reported to {@link J7GroupMetrics}
+     * @param expectedKeys - expected number of distinct keys, result map is presized for it when positive
+     */
+    static <K, V, C, T> Map<K, C> genericGroup(String operation, Iterable<T> collection,
+                                               GroupStrategy<K, V, C> groupStrategy,
+                                               ValueExtractor<T, V> valueExtractor, int expectedKeys,
+                                               J7GroupPrepositions.Preposition... expectedPrepositions) {
         checkPrepositions(expectedPrepositions);
-        clearCalledPrepositions();
-        Map<K, C> resultMap = new HashMap<>();
-
-        for (T entity : collection) {
-            K key = extractFirstArgument(entity);
-            C oldValue = resultMap.get(key);
-            V newValue = valueExtractor.extract(entity);
-            if (oldValue == null) {
-                groupStrategy.handleFirstOccurrence(key, newValue, resultMap);
-            } else {
-                groupStrategy.handleNonFirstOccurrence(key, newValue, oldValue, resultMap);
-            }
+        return groupWith(operation, collection, ProxyHelper.<T, K>getFirstCalledAccessor(), groupStrategy,
+                valueExtractor, expectedKeys);
+    }
+
+    /**
+     * Groups values to collections presized with given hints. Prepositions are checked before the hints,
+     * so a rejected hint doesn't leave them for the next operation.
+     * @param operation - name of the public operation, reported to {@link J7GroupMetrics}
+     * @param expectedKeys - expected number of distinct keys, not negative, 0 means unknown
+     * @param expectedGroupSize - expected number of values per key, not negative
+     */
+    static <K, V, C extends Collection<V>, T> Map<K, C> presizedGroup(
+            String operation, Iterable<T> collection, CollectionFactory<C> collectionFactory,
+            ValueExtractor<T, V> valueExtractor, int expectedKeys, int expectedGroupSize,
+            J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("Expected number of keys should not be negative: " + expectedKeys);
+        }
+        if (expectedGroupSize < 0) {
+            throw new IllegalArgumentException("Expected group size should not be negative: " + expectedGroupSize);
+        }
+        return groupWith(operation, collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new ToCollectionGroupStrategy<K, V, C>(collectionFactory, expectedGroupSize), valueExtractor,
+                expectedKeys);
+    }
+
+    static <K, V, C, T> Map<K, C> groupWith(String operation, Iterable<T> collection, Accessor<T, K> keyAccessor,
+                                            GroupStrategy<K, V, C> groupStrategy, ValueExtractor<T, V> valueExtractor,
+                                            int expectedKeys) {
+        Map<K, C> resultMap = expectedKeys > 0 ? new HashMap<K, C>(CollectionFactories.hashCapacity(expectedKeys))
+                : new HashMap<K, C>();
+
+        if (J7GroupMetrics.isEnabled()) {
+            groupAllMeasured(operation, collection, keyAccessor, groupStrategy, valueExtractor, resultMap);
+        } else {
+            groupAll(collection, keyAccessor, groupStrategy, valueExtractor, resultMap);
         }
 
         return resultMap;
     }
 
+    static <K, T, A, R> Map<K, R> genericAggregate(String operation, Iterable<T> collection,
+                                                   AggregatingGroupStrategy<K, T, A, R> groupStrategy,
+                                                   J7GroupPrepositions.Preposition... expectedPrepositions) {
+        Map<K, A> accumulators = genericGroup(operation, collection, groupStrategy, new EntityAsValueExtractor<T>(),
+                expectedPrepositions);
+        return groupStrategy.finish(accumulators);
+    }
+
+    static <K, T, A, R> Map<K, R> aggregateWith(String operation, Iterable<T> collection, Accessor<T, K> keyAccessor,
+                                                AggregatingGroupStrategy<K, T, A, R> groupStrategy) {
+        Map<K, A> accumulators = groupWith(operation, collection, keyAccessor, groupStrategy,
+                new EntityAsValueExtractor<T>(), 0);
+        return groupStrategy.finish(accumulators);
+    }
+
+    static <K, V, C, T> Grouper<T, K, C> createGrouper(GroupStrategy<K, V, C> groupStrategy,
+                                                      ValueExtractor<T, V> valueExtractor,
+                                                      J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        return new Grouper<>(keyAccessor, groupStrategy, valueExtractor);
+    }
+
+    static <K, T, B, C> ConcurrentGrouper<T, K, C> createConcurrentGrouper(
+            ConcurrentGroupStrategy<T, B, C> groupStrategy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        return new ConcurrentGrouper<>(keyAccessor, groupStrategy);
+    }
+
+    static <K, T> SortedIndex<K, T> createSortedIndex(Collection<T> collection, Comparator<? super K> comparator) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        return SortedIndex.build(collection, keyAccessor, comparator);
+    }
+
+    static <K, T> GroupQuery<T, K> createGroupQuery() {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        return new GroupQuery<>(keyAccessor);
+    }
+
+    static <K, T> LiveIndex<K, T> createLiveIndex(Collection<T> collection) {
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+        Map<K, Set<T>> initialGroups = genericGroup("liveIndex", collection,
+                new ToCollectionGroupStrategy<K, T, Set<T>>(ConcurrentIdentitySet.<T>factory(), DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+        return new LiveIndex<>(keyAccessor, initialGroups);
+    }
+
+    static <K, V, C, T> void groupAll(Iterable<T> elements, Accessor<T, K> keyAccessor,
+                                      GroupStrategy<K, V, C> groupStrategy, ValueExtractor<T, V> valueExtractor,
+                                      Map<K, C> resultMap) {
+        for (T entity : elements) {
+            groupElement(entity, keyAccessor, groupStrategy, valueExtractor, resultMap);
+        }
+    }
+
+    /**
+     * Same as {@link #groupAll}, but counts elements and reports the operation to {@link J7GroupMetrics}.
+     * Elements are counted in the same pass, as the source may be iterable only once.
+     */
+    private static <K, V, C, T> void groupAllMeasured(String operation, Iterable<T> elements,
+                                                      Accessor<T, K> keyAccessor,
+                                                      GroupStrategy<K, V, C> groupStrategy,
+                                                      ValueExtractor<T, V> valueExtractor, Map<K, C> resultMap) {
+        long startNanos = System.nanoTime();
+        long count = 0;
+        Class<?> entityClass = null;
+        for (T entity : elements) {
+            if (entityClass == null && entity != null) {
+                entityClass = entity.getClass();
+            }
+            groupElement(entity, keyAccessor, groupStrategy, valueExtractor, resultMap);
+            count++;
+        }
+        J7GroupMetrics.operationFinished(operation, entityClass, count, resultMap.size(), startNanos);
+    }
+
+    static <K, V, C, T> void groupElement(T entity, Accessor<T, K> keyAccessor, GroupStrategy<K, V, C> groupStrategy,
+                                          ValueExtractor<T, V> valueExtractor, Map<K, C> resultMap) {
+        K key = extractValue(keyAccessor, entity);
+        C oldValue = resultMap.get(key);
+        V newValue = valueExtractor.extract(entity);
+        if (oldValue == null) {
+            groupStrategy.handleFirstOccurrence(key, newValue, resultMap);
+        } else {
+            groupStrategy.handleNonFirstOccurrence(key, newValue, oldValue, resultMap);
+        }
+    }
+
+    /**
+     * Merges map grouped from later part of the collection into map grouped from earlier part.
+     */
+    static <K, V, C> void mergeGroups(Map<K, C> earlierMap, Map<K, C> laterMap, GroupStrategy<K, V, C> groupStrategy) {
+        for (Map.Entry<K, C> laterEntry : laterMap.entrySet()) {
+            K key = laterEntry.getKey();
+            C earlierValue = earlierMap.get(key);
+            if (earlierValue == null) {
+                earlierMap.put(key, laterEntry.getValue());
+            } else {
+                groupStrategy.handleMerge(key, earlierValue, laterEntry.getValue(), earlierMap);
+            }
+        }
+    }
+
     static <K, T> GroupStrategy<K, T, T> resolveGroupStrategy(KeyAmbiguityPolicy keyAmbiguityPolicy) {
         GroupStrategy<K, T, T> groupStrategy;
         switch (keyAmbiguityPolicy) {
@@ -137,14 +385,4 @@ class GroupHelper {
         }
         return groupStrategy;
     }
-
-    @SuppressWarnings("unchecked")
-    static <C extends Collection> C createCollectionInstance(Class<? extends Collection> collectionClass, int initialCapacity) {
-        try {
-            return (C) collectionClass.getConstructor(int.class).newInstance(initialCapacity);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return null;
-    }
 }
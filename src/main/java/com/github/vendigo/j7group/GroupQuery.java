@@ -0,0 +1,105 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.DEFAULT_CAPACITY;
+import static com.github.vendigo.j7group.GroupHelper.groupAll;
+
+/**
+ * Grouping compiled once by {@link J7Group#compile(Object)}. Keeps only resolved accessor of the key,
+ * so it is immutable and can be shared between threads, e.g. kept in static final field.
+ * Running the query doesn't check prepositions, doesn't touch thread locals and doesn't create proxies.
+ * Usage example:
+ * <pre>
+ * {@code private static final GroupQuery<Person, Integer> BY_AGE = compile(by(Person.class).getAge());
+ * ...
+ * Map<Integer, List<Person>> personsByAge = BY_AGE.groupToLists(persons);}
+ * </pre>
+ * @param <T> - type of grouped entities
+ * @param <K> - type of field for grouping
+ * @author Dmytro Marchenko
+ */
+public final class GroupQuery<T, K> {
+    private final Accessor<T, K> keyAccessor;
+
+    GroupQuery(Accessor<T, K> keyAccessor) {
+        this.keyAccessor = keyAccessor;
+    }
+
+    /**
+     * Groups given entities. If few entities would have equal key, keeps only last occurrence.
+     * @param elements - given entities
+     * @return Map "field" -> "entity"
+     */
+    public Map<K, T> group(Iterable<T> elements) {
+        return group(elements, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Groups given entities.
+     * @param elements - given entities
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @return Map "field" -> "entity"
+     */
+    public Map<K, T> group(Iterable<T> elements, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return run(elements, GroupHelper.<K, T>resolveGroupStrategy(keyAmbiguityPolicy));
+    }
+
+    /**
+     * Groups given entities to lists.
+     * @param elements - given entities
+     * @return Map "field" -> List of "entities"
+     */
+    public Map<K, List<T>> groupToLists(Iterable<T> elements) {
+        return groupToCollections(elements, CollectionFactories.<T>arrayLists());
+    }
+
+    /**
+     * Groups given entities to sets.
+     * @param elements - given entities
+     * @return Map "field" -> Set of "entities"
+     */
+    public Map<K, Set<T>> groupToSets(Iterable<T> elements) {
+        return groupToCollections(elements, CollectionFactories.<T>hashSets());
+    }
+
+    /**
+     * Groups given entities to collections created by given factory.
+     * @param elements - given entities
+     * @param collectionFactory - factory of collections for groups
+     * @param <C> - type of collections for groups
+     * @return Map "field" -> Collection of "entities"
+     */
+    public <C extends Collection<T>> Map<K, C> groupToCollections(Iterable<T> elements,
+                                                                 CollectionFactory<C> collectionFactory) {
+        return run(elements, new ToCollectionGroupStrategy<K, T, C>(collectionFactory, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Counts given entities per key.
+     * @param elements - given entities
+     * @return Map "field" -> count of entities
+     */
+    public Map<K, Long> groupCounting(Iterable<T> elements) {
+        CountingGroupStrategy<K, T> groupStrategy = new CountingGroupStrategy<>();
+        return groupStrategy.finish(run(elements, groupStrategy));
+    }
+
+    /**
+     * Creates new grouper which groups entities to lists. Grouper itself is not thread safe.
+     * @return new Grouper
+     */
+    public Grouper<T, K, List<T>> grouperToLists() {
+        return new Grouper<>(keyAccessor, new ToCollectionGroupStrategy<K, T, List<T>>(
+                CollectionFactories.<T>arrayLists(), DEFAULT_CAPACITY), new EntityAsValueExtractor<T>());
+    }
+
+    private <C> Map<K, C> run(Iterable<T> elements, GroupStrategy<K, T, C> groupStrategy) {
+        Map<K, C> resultMap = new HashMap<>();
+        groupAll(elements, keyAccessor, groupStrategy, new EntityAsValueExtractor<T>(), resultMap);
+        return resultMap;
+    }
+}
@@ -6,4 +6,10 @@ interface GroupStrategy<K, V, C> {
     void handleFirstOccurrence(K key, V newValue, Map<K, C> map);
 
     void handleNonFirstOccurrence(K key, V newValue, C oldValue, Map<K, C> map);
+
+    /**
+     * Called when partial results, grouped from different parts of the collection, both contain the key.
+     * earlierValue is already in the map and belongs to the part which goes first in encounter order.
+     */
+    void handleMerge(K key, C earlierValue, C laterValue, Map<K, C> map);
 }
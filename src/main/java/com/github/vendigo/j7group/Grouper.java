@@ -0,0 +1,89 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.github.vendigo.j7group.GroupHelper.groupElement;
+
+/**
+ * Groups elements one by one, so elements don't have to be collected to some collection before grouping.
+ * Created by {@link J7Group#grouper(Object)} and similar methods. Not thread safe.
+ * Usage example:
+ * <pre>
+ * {@code Grouper<Person, Integer, List<Person>> grouper = grouperToLists(by(Person.class).getAge());
+ * while (resultSet.next()) {
+ *     grouper.accept(readPerson(resultSet));
+ * }
+ * Map<Integer, List<Person>> personsByAge = grouper.finish();}
+ * </pre>
+ * @param <T> - type of grouped elements
+ * @param <K> - type of field for grouping
+ * @param <C> - type of values in the resulting map
+ * @author Dmytro Marchenko
+ */
+public final class Grouper<T, K, C> {
+    private final Accessor<T, K> keyAccessor;
+    private final GroupStrategy<K, Object, C> groupStrategy;
+    private final ValueExtractor<T, Object> valueExtractor;
+    private Map<K, C> resultMap = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <V> Grouper(Accessor<T, K> keyAccessor, GroupStrategy<K, V, C> groupStrategy,
+                ValueExtractor<T, V> valueExtractor) {
+        this.keyAccessor = keyAccessor;
+        this.groupStrategy = (GroupStrategy<K, Object, C>) groupStrategy;
+        this.valueExtractor = (ValueExtractor<T, Object>) valueExtractor;
+    }
+
+    /**
+     * Adds next element to the grouping.
+     * @param element - next element
+     * @return this grouper
+     */
+    public Grouper<T, K, C> accept(T element) {
+        groupElement(element, keyAccessor, groupStrategy, valueExtractor, getResultMap());
+        return this;
+    }
+
+    /**
+     * Adds all remaining elements of the iterator to the grouping.
+     * @param elements - iterator over next elements
+     * @return this grouper
+     */
+    public Grouper<T, K, C> acceptAll(Iterator<? extends T> elements) {
+        Map<K, C> map = getResultMap();
+        while (elements.hasNext()) {
+            groupElement(elements.next(), keyAccessor, groupStrategy, valueExtractor, map);
+        }
+        return this;
+    }
+
+    /**
+     * Adds all given elements to the grouping.
+     * @param elements - next elements
+     * @return this grouper
+     */
+    public Grouper<T, K, C> acceptAll(Iterable<? extends T> elements) {
+        return acceptAll(elements.iterator());
+    }
+
+    /**
+     * Finishes grouping. Grouper can't accept elements after that.
+     * @return map with all accepted elements grouped
+     */
+    public Map<K, C> finish() {
+        Map<K, C> result = getResultMap();
+        resultMap = null;
+        return result;
+    }
+
+    private Map<K, C> getResultMap() {
+        if (resultMap == null) {
+            throw new IllegalStateException("Grouping is already finished");
+        }
+        return resultMap;
+    }
+}
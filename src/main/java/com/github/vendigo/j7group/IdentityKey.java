@@ -0,0 +1,22 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Wraps an object for hash based collections, so it's compared by identity instead of equals.
+ */
+final class IdentityKey {
+    private final Object object;
+
+    IdentityKey(Object object) {
+        this.object = object;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IdentityKey && ((IdentityKey) o).object == object;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(object);
+    }
+}
@@ -1,14 +1,22 @@
 package com.github.vendigo.j7group;
 
 import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+import com.github.vendigo.j7group.primitive.DoubleKeyMap;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+import com.github.vendigo.j7group.primitive.LongKeyMap;
 
 import java.util.*;
 
 import static com.github.vendigo.j7group.GroupHelper.*;
+import static com.github.vendigo.j7group.ParallelGroupHelper.parallelGenericGroup;
 
 /**
  * Bunch of useful methods for type safe manipulations with collections.
  * See doc for each method and J7GroupTest for more usage examples.
+ * <p>
+ * Aggregations by comparable field, {@link #groupMinComparable}, {@link #groupMaxComparable}
+ * and {@link #groupTopNComparable}, have their own names: with a primitive key they would be ambiguous
+ * with the overloads taking primitive field.
  * @author Dmytro Marchenko
  */
 public final class J7Group {
@@ -29,6 +37,132 @@ public final class J7Group {
         return checkUniqueness(in);
     }
 
+    /**
+     * Finds values of some field which occur more than once, with entities having them.
+     * Only hash codes of all values are kept in memory, not values themselves.
+     * Usage example: {@code findDuplicates(persons, field(Person.class).getEmail())}
+     * @param in - given collection
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return Map "duplicated value" -> List of "entities" in iteration order, empty if all values are unique
+     */
+    public static <T, V> Map<V, List<T>> findDuplicates(Collection<T> in, V field) {
+        return DuplicatesHelper.findDuplicates(in, false);
+    }
+
+    /**
+     * Same as {@link #findDuplicates(Collection, Object)}, but values are extracted and hashed in parallel.
+     * Usage example: {@code parallelFindDuplicates(persons, field(Person.class).getEmail())}
+     * @param in - given collection
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return Map "duplicated value" -> List of "entities" in iteration order, empty if all values are unique
+     */
+    public static <T, V> Map<V, List<T>> parallelFindDuplicates(Collection<T> in, V field) {
+        return DuplicatesHelper.findDuplicates(in, true);
+    }
+
+    /**
+     * Counts occurrences of values of some field which occur more than once.
+     * Usage example: {@code countDuplicates(persons, field(Person.class).getEmail())}
+     * @param in - given collection
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return Map "duplicated value" -> number of occurrences, empty if all values are unique
+     */
+    public static <T, V> Map<V, Integer> countDuplicates(Collection<T> in, V field) {
+        return DuplicatesHelper.countDuplicates(in, false);
+    }
+
+    /**
+     * Removes entities with repeated values of some field, keeping the first occurrence and the order of the collection.
+     * Usage example: {@code distinctBy(persons, by(Person.class).getEmail())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field
+     * @param <T> - type of collection
+     * @return new List with entities which have distinct values of the field
+     */
+    public static <K, T> List<T> distinctBy(Collection<T> collection, K by) {
+        return distinctBy(collection, by, KeyAmbiguityPolicy.KEEP_FIRST);
+    }
+
+    /**
+     * Removes entities with repeated values of some field, keeping the order of the collection.
+     * Only the set of seen values is kept in memory.
+     * Usage example: {@code distinctBy(persons, by(Person.class).getEmail(), KeyAmbiguityPolicy.KEEP_LAST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - which of the entities with equal values to keep, or fail on them
+     * @param <K> - type of field
+     * @param <T> - type of collection
+     * @return new List with entities which have distinct values of the field
+     */
+    public static <K, T> List<T> distinctBy(Collection<T> collection, K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return DistinctHelper.distinctBy(collection, keyAmbiguityPolicy);
+    }
+
+    /**
+     * Removes entities with repeated values of some int field, keeping the order of the collection.
+     * Seen values are kept unboxed.
+     * Usage example: {@code distinctByInt(persons, by(Person.class).getId(), KeyAmbiguityPolicy.KEEP_LAST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - which of the entities with equal values to keep, or fail on them
+     * @param <T> - type of collection
+     * @return new List with entities which have distinct values of the field
+     */
+    public static <T> List<T> distinctByInt(Collection<T> collection, int by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return DistinctHelper.distinctByInt(collection, keyAmbiguityPolicy);
+    }
+
+    /**
+     * Removes entities with repeated values of some long field, keeping the order of the collection.
+     * Seen values are kept unboxed.
+     * Usage example: {@code distinctByLong(orders, by(Order.class).getId(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - which of the entities with equal values to keep, or fail on them
+     * @param <T> - type of collection
+     * @return new List with entities which have distinct values of the field
+     */
+    public static <T> List<T> distinctByLong(Collection<T> collection, long by,
+                                             KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return DistinctHelper.distinctByLong(collection, keyAmbiguityPolicy);
+    }
+
+    /**
+     * Removes entities with repeated values of some double field, keeping the order of the collection.
+     * Seen values are kept unboxed and compared like {@link Double#equals(Object)} does.
+     * Usage example: {@code distinctByDouble(players, by(Player.class).getRating(), KeyAmbiguityPolicy.KEEP_LAST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - which of the entities with equal values to keep, or fail on them
+     * @param <T> - type of collection
+     * @return new List with entities which have distinct values of the field
+     */
+    public static <T> List<T> distinctByDouble(Collection<T> collection, double by,
+                                               KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return DistinctHelper.distinctByDouble(collection, keyAmbiguityPolicy);
+    }
+
+    /**
+     * Lazily skips entities with already seen values of some field, keeping the first occurrence.
+     * Elements are read from the source only as the iterator is advanced.
+     * Usage example: {@code distinctIterator(personsFromFile, by(Person.class).getEmail())}
+     * @param elements - given elements
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field
+     * @param <T> - type of elements
+     * @return Iterator over entities which have distinct values of the field
+     */
+    public static <K, T> Iterator<T> distinctIterator(Iterable<T> elements, K by) {
+        return DistinctHelper.distinctIterator(elements);
+    }
+
     /**
      * Collects elements from collection by some boolean field.
      * Usage example: {@code collect(persons, whenTrue(Person.class).isAdult())}
@@ -51,7 +185,7 @@ public final class J7Group {
      * @return List with collected values
      */
     public static <T, V> List<V> collectToListFrom(Collection<T> from, V field) {
-        return (List<V>) genericCollect(from, ArrayList.class, from.size());
+        return genericCollect("collectToListFrom", from, CollectionFactories.<V>arrayLists());
     }
 
     /**
@@ -64,7 +198,85 @@ public final class J7Group {
      * @return Set with collected values
      */
     public static <T, V> Set<V> collectToSetFrom(Collection<T> from, V field) {
-        return (Set<V>) genericCollect(from, HashSet.class, from.size());
+        return genericCollect("collectToSetFrom", from, CollectionFactories.<V>hashSets());
+    }
+
+    /**
+     * Collects values of some int field to array, without boxing.
+     * Usage example: {@code collectToIntArray(persons, field(Person.class).getAge())}
+     * @param from - collection to collect field values from
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @return array with collected values in iteration order
+     */
+    public static <T> int[] collectToIntArray(Collection<T> from, int field) {
+        return PrimitiveGroupHelper.collectInts("collectToIntArray", from);
+    }
+
+    /**
+     * Collects values of some long field to array, without boxing.
+     * Usage example: {@code collectToLongArray(persons, field(Person.class).getId())}
+     * @param from - collection to collect field values from
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @return array with collected values in iteration order
+     */
+    public static <T> long[] collectToLongArray(Collection<T> from, long field) {
+        return PrimitiveGroupHelper.collectLongs("collectToLongArray", from);
+    }
+
+    /**
+     * Collects values of some double field to array, without boxing.
+     * Usage example: {@code collectToDoubleArray(persons, field(Person.class).getSalary())}
+     * @param from - collection to collect field values from
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of collection
+     * @return array with collected values in iteration order
+     */
+    public static <T> double[] collectToDoubleArray(Collection<T> from, double field) {
+        return PrimitiveGroupHelper.collectDoubles("collectToDoubleArray", from);
+    }
+
+    /**
+     * Starts declaration of columns for projecting several primitive fields in a single pass.
+     * Usage example: {@code columns(Person.class).intColumn(field(Person.class).getAge()).project(persons)}
+     * @param entityClass - class of target entity
+     * @param <T> - type of entities
+     * @return new ColumnProjection without columns
+     */
+    public static <T> ColumnProjection<T> columns(Class<T> entityClass) {
+        return new ColumnProjection<>();
+    }
+
+    /**
+     * Returns read-only view of some field of entities from given list instead of copying the values.
+     * Values are extracted on each read, so view reflects changes of the list.
+     * View supports random access if given list does.
+     * Usage example: {@code collectToLazyListFrom(persons, field(Person.class).getName())}
+     * @param from - list to collect field values from
+     * @param field - placeholder for "field" construction
+     * @param <T> - type of list
+     * @param <V> - type of collected field
+     * @return List view of field values
+     */
+    public static <T, V> List<V> collectToLazyListFrom(List<T> from, V field) {
+        return collectToLazyListFrom(from, field, false);
+    }
+
+    /**
+     * Returns read-only view of some field of entities from given list instead of copying the values.
+     * With memoization each value is extracted at most once and given list should not be changed afterwards.
+     * View supports random access if given list does.
+     * Usage example: {@code collectToLazyListFrom(persons, field(Person.class).getName(), true)}
+     * @param from - list to collect field values from
+     * @param field - placeholder for "field" construction
+     * @param memoize - whether extracted values should be remembered
+     * @param <T> - type of list
+     * @param <V> - type of collected field
+     * @return List view of field values
+     */
+    public static <T, V> List<V> collectToLazyListFrom(List<T> from, V field, boolean memoize) {
+        return createProjectedList(from, memoize);
     }
 
     /**
@@ -93,7 +305,8 @@ public final class J7Group {
      */
     public static <K, T> Map<K, T> group(Collection<T> collection, K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
         GroupStrategy<K, T, T> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
-        return genericGroup(collection, groupStrategy, new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+        return genericGroup("group", collection, groupStrategy,
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
     }
 
     /**
@@ -107,8 +320,9 @@ public final class J7Group {
      * @return Map "field" -> List of "entities"
      */
     public static <K, T> Map<K, List<T>> groupToLists(Collection<T> collection, K by) {
-        return genericGroup(collection, new ToCollectionGroupStrategy<K, T, List<T>>(ArrayList.class,
-                        collection.size()),
+        return genericGroup("groupToLists", collection,
+                new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(),
+                        DEFAULT_CAPACITY),
                 new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
     }
 
@@ -123,11 +337,70 @@ public final class J7Group {
      * @return Map "field" -> Set of "entities"
      */
     public static <K, T> Map<K, Set<T>> groupToSets(Collection<T> collection, K by) {
-        return genericGroup(collection, new ToCollectionGroupStrategy<K, T, Set<T>>(HashSet.class,
-                        collection.size()),
+        return genericGroup("groupToSets", collection,
+                new ToCollectionGroupStrategy<K, T, Set<T>>(CollectionFactories.<T>hashSets(),
+                        DEFAULT_CAPACITY),
                 new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
     }
 
+    /**
+     * Groups entities from given collection by given field, presizing result map and groups.
+     * Use this when number of keys or size of groups is known in advance.
+     * Usage example: {@code groupToLists(persons, by(Person.class).getAge(), 100, 1000)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param expectedKeys - expected number of distinct keys, not negative, 0 if unknown
+     * @param expectedGroupSize - expected number of entities per key, not negative
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> List of "entities"
+     */
+    public static <K, T> Map<K, List<T>> groupToLists(Collection<T> collection, K by, int expectedKeys,
+                                                      int expectedGroupSize) {
+        return presizedGroup("groupToLists", collection, CollectionFactories.<T>arrayLists(),
+                new EntityAsValueExtractor<T>(), expectedKeys, expectedGroupSize,
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Groups entities from given collection by given field to collections created by given factory.
+     * Usage example: {@code groupToCollections(persons, by(Person.class).getAge(), CollectionFactories.<Person>linkedHashSets())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param collectionFactory - factory of collections for groups
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @param <C> - type of collections for groups
+     * @return Map "field" -> Collection of "entities"
+     */
+    public static <K, T, C extends Collection<T>> Map<K, C> groupToCollections(Collection<T> collection, K by,
+                                                                              CollectionFactory<C> collectionFactory) {
+        return genericGroup("groupToCollections", collection,
+                new ToCollectionGroupStrategy<K, T, C>(collectionFactory, DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Groups entities from given collection by given field to collections created by given factory,
+     * presizing result map and groups.
+     * Usage example: {@code groupToCollections(persons, by(Person.class).getAge(), CollectionFactories.<Person>hashSets(), 100, 1000)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param collectionFactory - factory of collections for groups
+     * @param expectedKeys - expected number of distinct keys, not negative, 0 if unknown
+     * @param expectedGroupSize - expected number of entities per key, not negative
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @param <C> - type of collections for groups
+     * @return Map "field" -> Collection of "entities"
+     */
+    public static <K, T, C extends Collection<T>> Map<K, C> groupToCollections(Collection<T> collection, K by,
+                                                                              CollectionFactory<C> collectionFactory,
+                                                                              int expectedKeys, int expectedGroupSize) {
+        return presizedGroup("groupToCollections", collection, collectionFactory, new EntityAsValueExtractor<T>(),
+                expectedKeys, expectedGroupSize, J7GroupPrepositions.Preposition.BY);
+    }
+
     /**
      * Creates mapping from some field of the entity to another.
      * Usage example: {@code map(persons, from(Person.class).getName(), to(Person.class).getAge())}
@@ -158,7 +431,7 @@ public final class J7Group {
      */
     public static <K, V, T> Map<K, V> map(Collection<T> collection, K from, V to, KeyAmbiguityPolicy keyAmbiguityPolicy) {
         GroupStrategy<K, V, V> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
-        return genericGroup(collection, groupStrategy, new SecondArgumentValueExtractor<T, V>(),
+        return genericGroup("map", collection, groupStrategy, new SecondArgumentValueExtractor<T, V>(),
                 J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
     }
 
@@ -175,8 +448,9 @@ public final class J7Group {
      * @return Map "from" -> List of "to"
      */
     public static <K, V, T> Map<K, List<V>> mapToLists(Collection<T> collection, K from, V to) {
-        return genericGroup(collection, new ToCollectionGroupStrategy<K, V, List<V>>(ArrayList.class,
-                GroupHelper.DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+        return genericGroup("mapToLists", collection,
+                new ToCollectionGroupStrategy<K, V, List<V>>(CollectionFactories.<V>arrayLists(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
                 J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
     }
 
@@ -193,20 +467,1288 @@ public final class J7Group {
      * @return Map "from" -> Set of "to"
      */
     public static <T, K, V> Map<K, Set<V>> mapToSets(Collection<T> collection, K from, V to) {
-        return genericGroup(collection, new ToCollectionGroupStrategy<K, V, Set<V>>(HashSet.class,
-                GroupHelper.DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+        return genericGroup("mapToSets", collection,
+                new ToCollectionGroupStrategy<K, V, Set<V>>(CollectionFactories.<V>hashSets(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
                 J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
     }
 
     /**
-     * Removes elements from the collection by some boolean field.
-     * Usage example: {@code removeFrom(persons, whereFalse(Person.class).isAdult())}
-     * @param from - given collection
-     * @param predicate - placeholder for "whenTrue" or "whenFalse" construction
+     * Creates mapping from some field of the entity to another, collecting values to collections created
+     * by given factory.
+     * Usage example: {@code mapToCollections(persons, from(Person.class).getAge(), to(Person.class).getName(), CollectionFactories.<String>linkedLists())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param collectionFactory - factory of collections for values
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
      * @param <T> - type of collection
-     * @return given collection
+     * @param <C> - type of collections for values
+     * @return Map "from" -> Collection of "to"
      */
-    public static <T> Collection<T> removeFrom(Collection<T> from, boolean predicate) {
-        return removeByPredicate(from);
+    public static <K, V, T, C extends Collection<V>> Map<K, C> mapToCollections(Collection<T> collection, K from, V to,
+                                                                               CollectionFactory<C> collectionFactory) {
+        return genericGroup("mapToCollections", collection,
+                new ToCollectionGroupStrategy<K, V, C>(collectionFactory, DEFAULT_CAPACITY),
+                new SecondArgumentValueExtractor<T, V>(), J7GroupPrepositions.Preposition.FROM,
+                J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates mapping from some field of the entity to another, collecting values to collections created
+     * by given factory and presizing result map and collections.
+     * Usage example: {@code mapToCollections(persons, from(Person.class).getAge(), to(Person.class).getName(), CollectionFactories.<String>arrayLists(), 100, 1000)}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param collectionFactory - factory of collections for values
+     * @param expectedKeys - expected number of distinct keys, not negative, 0 if unknown
+     * @param expectedGroupSize - expected number of values per key, not negative
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @param <C> - type of collections for values
+     * @return Map "from" -> Collection of "to"
+     */
+    public static <K, V, T, C extends Collection<V>> Map<K, C> mapToCollections(Collection<T> collection, K from, V to,
+                                                                               CollectionFactory<C> collectionFactory,
+                                                                               int expectedKeys, int expectedGroupSize) {
+        return presizedGroup("mapToCollections", collection, collectionFactory,
+                new SecondArgumentValueExtractor<T, V>(), expectedKeys, expectedGroupSize,
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Same as {@link #group(Collection, Object)} for elements which are not stored in collection,
+     * e.g. read lazily from database or file.
+     * Usage example: {@code group(personsIterable, by(Person.class).getAge())}
+     * @param elements - given elements
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> group(Iterable<T> elements, K by) {
+        return group(elements, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Same as {@link #group(Collection, Object, KeyAmbiguityPolicy)} for elements which are not stored
+     * in collection.
+     * Usage example: {@code group(personsIterable, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param elements - given elements
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> group(Iterable<T> elements, K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, T, T> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return genericGroup("group", elements, groupStrategy,
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Same as {@link #groupToLists(Collection, Object)} for elements which are not stored in collection.
+     * Usage example: {@code groupToLists(personsIterable, by(Person.class).getAge())}
+     * @param elements - given elements
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> List of "entities"
+     */
+    public static <K, T> Map<K, List<T>> groupToLists(Iterable<T> elements, K by) {
+        return genericGroup("groupToLists", elements,
+                new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Same as {@link #groupToSets(Collection, Object)} for elements which are not stored in collection.
+     * Usage example: {@code groupToSets(personsIterable, by(Person.class).getAge())}
+     * @param elements - given elements
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> Set of "entities"
+     */
+    public static <K, T> Map<K, Set<T>> groupToSets(Iterable<T> elements, K by) {
+        return genericGroup("groupToSets", elements,
+                new ToCollectionGroupStrategy<K, T, Set<T>>(CollectionFactories.<T>hashSets(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Same as {@link #map(Collection, Object, Object)} for elements which are not stored in collection.
+     * Usage example: {@code map(personsIterable, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param elements - given elements
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> map(Iterable<T> elements, K from, V to) {
+        return map(elements, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Same as {@link #map(Collection, Object, Object, KeyAmbiguityPolicy)} for elements which are not stored
+     * in collection.
+     * Usage example: {@code map(personsIterable, from(Person.class).getName(), to(Person.class).getAge(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param elements - given elements
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> map(Iterable<T> elements, K from, V to, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, V, V> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return genericGroup("map", elements, groupStrategy, new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Same as {@link #mapToLists(Collection, Object, Object)} for elements which are not stored in collection.
+     * Usage example: {@code mapToLists(personsIterable, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param elements - given elements
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> List of "to"
+     */
+    public static <K, V, T> Map<K, List<V>> mapToLists(Iterable<T> elements, K from, V to) {
+        return genericGroup("mapToLists", elements,
+                new ToCollectionGroupStrategy<K, V, List<V>>(CollectionFactories.<V>arrayLists(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Same as {@link #mapToSets(Collection, Object, Object)} for elements which are not stored in collection.
+     * Usage example: {@code mapToSets(personsIterable, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param elements - given elements
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> Set of "to"
+     */
+    public static <T, K, V> Map<K, Set<V>> mapToSets(Iterable<T> elements, K from, V to) {
+        return genericGroup("mapToSets", elements,
+                new ToCollectionGroupStrategy<K, V, Set<V>>(CollectionFactories.<V>hashSets(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates {@link Grouper}, which groups entities one by one by given field.
+     * If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code Grouper<Person, Integer, Person> grouper = grouper(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of entities
+     * @return Grouper producing Map "field" -> "entity"
+     */
+    public static <K, T> Grouper<T, K, T> grouper(K by) {
+        return grouper(by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates {@link Grouper}, which groups entities one by one by given field.
+     * Usage example: {@code Grouper<Person, Integer, Person> grouper = grouper(by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of entities
+     * @return Grouper producing Map "field" -> "entity"
+     */
+    public static <K, T> Grouper<T, K, T> grouper(K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, T, T> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return createGrouper(groupStrategy, new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates {@link Grouper}, which groups entities one by one by given field to lists.
+     * Usage example: {@code Grouper<Person, Integer, List<Person>> grouper = grouperToLists(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of entities
+     * @return Grouper producing Map "field" -> List of "entities"
+     */
+    public static <K, T> Grouper<T, K, List<T>> grouperToLists(K by) {
+        return createGrouper(new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates {@link Grouper}, which groups entities one by one by given field to sets.
+     * Usage example: {@code Grouper<Person, Integer, Set<Person>> grouper = grouperToSets(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of entities
+     * @return Grouper producing Map "field" -> Set of "entities"
+     */
+    public static <K, T> Grouper<T, K, Set<T>> grouperToSets(K by) {
+        return createGrouper(new ToCollectionGroupStrategy<K, T, Set<T>>(CollectionFactories.<T>hashSets(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates {@link Grouper}, which maps some field of entities to another one by one.
+     * If few entities would have equal keys, keeps only last occurrence.
+     * Usage example: {@code Grouper<Person, String, Integer> mapper = mapper(from(Person.class).getName(), to(Person.class).getAge())}
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of entities
+     * @return Grouper producing Map "from" -> "to"
+     */
+    public static <K, V, T> Grouper<T, K, V> mapper(K from, V to) {
+        return mapper(from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates {@link Grouper}, which maps some field of entities to another one by one.
+     * Usage example: {@code Grouper<Person, String, Integer> mapper = mapper(from(Person.class).getName(), to(Person.class).getAge(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of entities
+     * @return Grouper producing Map "from" -> "to"
+     */
+    public static <K, V, T> Grouper<T, K, V> mapper(K from, V to, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, V, V> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return createGrouper(groupStrategy, new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates {@link Grouper}, which maps some field of entities to lists of another one by one.
+     * Usage example: {@code Grouper<Person, Integer, List<String>> mapper = mapperToLists(from(Person.class).getAge(), to(Person.class).getName())}
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of entities
+     * @return Grouper producing Map "from" -> List of "to"
+     */
+    public static <K, V, T> Grouper<T, K, List<V>> mapperToLists(K from, V to) {
+        return createGrouper(new ToCollectionGroupStrategy<K, V, List<V>>(CollectionFactories.<V>arrayLists(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates {@link Grouper}, which maps some field of entities to sets of another one by one.
+     * Usage example: {@code Grouper<Person, Integer, Set<String>> mapper = mapperToSets(from(Person.class).getAge(), to(Person.class).getName())}
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of entities
+     * @return Grouper producing Map "from" -> Set of "to"
+     */
+    public static <K, V, T> Grouper<T, K, Set<V>> mapperToSets(K from, V to) {
+        return createGrouper(new ToCollectionGroupStrategy<K, V, Set<V>>(CollectionFactories.<V>hashSets(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates grouper which can be fed by many threads at the same time.
+     * If few entities would have equal key, keeps only last accepted.
+     * Usage example: {@code ConcurrentGrouper<Person, String, Person> grouper = concurrentGrouper(by(Person.class).getName())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return new ConcurrentGrouper
+     */
+    public static <K, T> ConcurrentGrouper<T, K, T> concurrentGrouper(K by) {
+        return concurrentGrouper(by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates grouper which can be fed by many threads at the same time.
+     * Usage example: {@code ConcurrentGrouper<Person, String, Person> grouper = concurrentGrouper(by(Person.class).getName(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return new ConcurrentGrouper
+     */
+    public static <K, T> ConcurrentGrouper<T, K, T> concurrentGrouper(K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return createConcurrentGrouper(ConcurrentGroupStrategy.<T>forPolicy(keyAmbiguityPolicy));
+    }
+
+    /**
+     * Creates grouper to lists which can be fed by many threads at the same time.
+     * Usage example: {@code ConcurrentGrouper<Person, Integer, List<Person>> grouper = concurrentGrouperToLists(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return new ConcurrentGrouper
+     */
+    public static <K, T> ConcurrentGrouper<T, K, List<T>> concurrentGrouperToLists(K by) {
+        return createConcurrentGrouper(ConcurrentGroupStrategy.toCollections(CollectionFactories.<T>arrayLists()));
+    }
+
+    /**
+     * Creates grouper to sets which can be fed by many threads at the same time.
+     * Usage example: {@code ConcurrentGrouper<Person, Integer, Set<Person>> grouper = concurrentGrouperToSets(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return new ConcurrentGrouper
+     */
+    public static <K, T> ConcurrentGrouper<T, K, Set<T>> concurrentGrouperToSets(K by) {
+        return createConcurrentGrouper(ConcurrentGroupStrategy.toCollections(CollectionFactories.<T>hashSets()));
+    }
+
+    /**
+     * Compiles grouping by given field once, so it can be run many times and from many threads
+     * without placeholders.
+     * Usage example: {@code GroupQuery<Person, Integer> byAge = compile(by(Person.class).getAge())}
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return immutable GroupQuery
+     */
+    public static <K, T> GroupQuery<T, K> compile(K by) {
+        return createGroupQuery();
+    }
+
+    /**
+     * Groups entities from given collection by given field into immutable {@link SortedIndex},
+     * which answers lookups by key and range queries.
+     * Usage example: {@code groupToSortedIndex(persons, by(Person.class).getAge()).range(30, 40)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return SortedIndex "field" -> List of "entities"
+     */
+    public static <K extends Comparable<? super K>, T> SortedIndex<K, T> groupToSortedIndex(Collection<T> collection,
+                                                                                          K by) {
+        return createSortedIndex(collection, new NaturalOrderComparator<K>());
+    }
+
+    /**
+     * Groups entities from given collection by given field into immutable {@link SortedIndex},
+     * keys are ordered by given comparator.
+     * Usage example: {@code groupToSortedIndex(persons, by(Person.class).getName(), String.CASE_INSENSITIVE_ORDER)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param comparator - order of keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return SortedIndex "field" -> List of "entities"
+     */
+    public static <K, T> SortedIndex<K, T> groupToSortedIndex(Collection<T> collection, K by,
+                                                             Comparator<? super K> comparator) {
+        return createSortedIndex(collection, comparator);
+    }
+
+    /**
+     * Groups entities from given collection by given field into {@link LiveIndex}, which can be updated
+     * when entities are added, removed or changed, without grouping the whole collection again.
+     * Usage example: {@code LiveIndex<Integer, Person> index = liveIndex(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return LiveIndex "field" -> Set of "entities"
+     */
+    public static <K, T> LiveIndex<K, T> liveIndex(Collection<T> collection, K by) {
+        return createLiveIndex(collection);
+    }
+
+    /**
+     * Parallel version of {@link #group(Collection, Object)}.
+     * Parts of the collection are grouped in the fork/join pool and then merged, so it pays off only
+     * for big collections. Small collections are grouped in the calling thread.
+     * Usage example: {@code parallelGroup(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> parallelGroup(Collection<T> collection, K by) {
+        return parallelGroup(collection, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Parallel version of {@link #group(Collection, Object, KeyAmbiguityPolicy)}.
+     * {@link KeyAmbiguityPolicy#KEEP_FIRST} and {@link KeyAmbiguityPolicy#KEEP_LAST} still refer to
+     * the order of the given collection.
+     * Usage example: {@code parallelGroup(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> parallelGroup(Collection<T> collection, K by,
+                                                 KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, T, T> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return parallelGenericGroup("parallelGroup", collection, groupStrategy, new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Parallel version of {@link #groupToLists(Collection, Object)}.
+     * Lists keep the order of the given collection.
+     * Usage example: {@code parallelGroupToLists(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> List of "entities"
+     */
+    public static <K, T> Map<K, List<T>> parallelGroupToLists(Collection<T> collection, K by) {
+        return parallelGenericGroup("parallelGroupToLists", collection,
+                new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Parallel version of {@link #groupToSets(Collection, Object)}.
+     * Usage example: {@code parallelGroupToSets(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> Set of "entities"
+     */
+    public static <K, T> Map<K, Set<T>> parallelGroupToSets(Collection<T> collection, K by) {
+        return parallelGenericGroup("parallelGroupToSets", collection,
+                new ToCollectionGroupStrategy<K, T, Set<T>>(CollectionFactories.<T>hashSets(),
+                        DEFAULT_CAPACITY),
+                new EntityAsValueExtractor<T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Parallel version of {@link #map(Collection, Object, Object)}.
+     * Usage example: {@code parallelMap(persons, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> parallelMap(Collection<T> collection, K from, V to) {
+        return parallelMap(collection, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Parallel version of {@link #map(Collection, Object, Object, KeyAmbiguityPolicy)}.
+     * {@link KeyAmbiguityPolicy#KEEP_FIRST} and {@link KeyAmbiguityPolicy#KEEP_LAST} still refer to
+     * the order of the given collection.
+     * Usage example: {@code parallelMap(persons, from(Person.class).getName(), to(Person.class).getAge(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> parallelMap(Collection<T> collection, K from, V to,
+                                                  KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        GroupStrategy<K, V, V> groupStrategy = resolveGroupStrategy(keyAmbiguityPolicy);
+        return parallelGenericGroup("parallelMap", collection, groupStrategy, new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Parallel version of {@link #mapToLists(Collection, Object, Object)}.
+     * Lists keep the order of the given collection.
+     * Usage example: {@code parallelMapToLists(persons, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return Map "from" -> List of "to"
+     */
+    public static <K, V, T> Map<K, List<V>> parallelMapToLists(Collection<T> collection, K from, V to) {
+        return parallelGenericGroup("parallelMapToLists", collection,
+                new ToCollectionGroupStrategy<K, V, List<V>>(CollectionFactories.<V>arrayLists(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Parallel version of {@link #mapToSets(Collection, Object, Object)}.
+     * Usage example: {@code parallelMapToSets(persons, from(Person.class).getName(), to(Person.class).getAge())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return Map "from" -> Set of "to"
+     */
+    public static <T, K, V> Map<K, Set<V>> parallelMapToSets(Collection<T> collection, K from, V to) {
+        return parallelGenericGroup("parallelMapToSets", collection,
+                new ToCollectionGroupStrategy<K, V, Set<V>>(CollectionFactories.<V>hashSets(),
+                        DEFAULT_CAPACITY), new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Groups entities from given collection by given int field without boxing of keys.
+     * If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code groupByInt(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return IntKeyMap "field" -> "entity"
+     */
+    public static <T> IntKeyMap<T> groupByInt(Collection<T> collection, int by) {
+        return groupByInt(collection, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Groups entities from given collection by given int field without boxing of keys.
+     * Usage example: {@code groupByInt(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <T> - type of collection
+     * @return IntKeyMap "field" -> "entity"
+     */
+    public static <T> IntKeyMap<T> groupByInt(Collection<T> collection, int by,
+                                            KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByInt("groupByInt", collection, keyAmbiguityPolicy,
+                new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Groups entities from given collection by given int field without boxing of keys.
+     * Use this when there are entities with equal keys.
+     * Usage example: {@code groupToListsByInt(persons, by(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return IntKeyMap "field" -> List of "entities"
+     */
+    public static <T> IntKeyMap<List<T>> groupToListsByInt(Collection<T> collection, int by) {
+        return PrimitiveGroupHelper.groupToListsByInt("groupToListsByInt", collection, new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates mapping from some int field of the entity to another without boxing of keys.
+     * If few entities would have equal keys, keeps only last occurrence.
+     * Usage example: {@code mapByInt(persons, from(Person.class).getAge(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return IntKeyMap "from" -> "to"
+     */
+    public static <V, T> IntKeyMap<V> mapByInt(Collection<T> collection, int from, V to) {
+        return mapByInt(collection, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates mapping from some int field of the entity to another without boxing of keys.
+     * Usage example: {@code mapByInt(persons, from(Person.class).getAge(), to(Person.class).getName(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return IntKeyMap "from" -> "to"
+     */
+    public static <V, T> IntKeyMap<V> mapByInt(Collection<T> collection, int from, V to,
+                                             KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByInt("mapByInt", collection, keyAmbiguityPolicy,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates mapping from some int field of the entity to another without boxing of keys.
+     * Use this when there are few entities with equal key.
+     * Usage example: {@code mapToListsByInt(persons, from(Person.class).getAge(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return IntKeyMap "from" -> List of "to"
+     */
+    public static <V, T> IntKeyMap<List<V>> mapToListsByInt(Collection<T> collection, int from, V to) {
+        return PrimitiveGroupHelper.groupToListsByInt("mapToListsByInt", collection,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Groups entities from given collection by given long field without boxing of keys.
+     * If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code groupByLong(persons, by(Person.class).getId())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return LongKeyMap "field" -> "entity"
+     */
+    public static <T> LongKeyMap<T> groupByLong(Collection<T> collection, long by) {
+        return groupByLong(collection, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Groups entities from given collection by given long field without boxing of keys.
+     * Usage example: {@code groupByLong(persons, by(Person.class).getId(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <T> - type of collection
+     * @return LongKeyMap "field" -> "entity"
+     */
+    public static <T> LongKeyMap<T> groupByLong(Collection<T> collection, long by,
+                                            KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByLong("groupByLong", collection, keyAmbiguityPolicy,
+                new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Groups entities from given collection by given long field without boxing of keys.
+     * Use this when there are entities with equal keys.
+     * Usage example: {@code groupToListsByLong(persons, by(Person.class).getId())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return LongKeyMap "field" -> List of "entities"
+     */
+    public static <T> LongKeyMap<List<T>> groupToListsByLong(Collection<T> collection, long by) {
+        return PrimitiveGroupHelper.groupToListsByLong("groupToListsByLong", collection,
+                new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates mapping from some long field of the entity to another without boxing of keys.
+     * If few entities would have equal keys, keeps only last occurrence.
+     * Usage example: {@code mapByLong(persons, from(Person.class).getId(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return LongKeyMap "from" -> "to"
+     */
+    public static <V, T> LongKeyMap<V> mapByLong(Collection<T> collection, long from, V to) {
+        return mapByLong(collection, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates mapping from some long field of the entity to another without boxing of keys.
+     * Usage example: {@code mapByLong(persons, from(Person.class).getId(), to(Person.class).getName(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return LongKeyMap "from" -> "to"
+     */
+    public static <V, T> LongKeyMap<V> mapByLong(Collection<T> collection, long from, V to,
+                                             KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByLong("mapByLong", collection, keyAmbiguityPolicy,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates mapping from some long field of the entity to another without boxing of keys.
+     * Use this when there are few entities with equal key.
+     * Usage example: {@code mapToListsByLong(persons, from(Person.class).getId(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return LongKeyMap "from" -> List of "to"
+     */
+    public static <V, T> LongKeyMap<List<V>> mapToListsByLong(Collection<T> collection, long from, V to) {
+        return PrimitiveGroupHelper.groupToListsByLong("mapToListsByLong", collection,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Groups entities from given collection by given double field without boxing of keys.
+     * If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code groupByDouble(persons, by(Person.class).getSalary())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "field" -> "entity"
+     */
+    public static <T> DoubleKeyMap<T> groupByDouble(Collection<T> collection, double by) {
+        return groupByDouble(collection, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Groups entities from given collection by given double field without boxing of keys.
+     * Usage example: {@code groupByDouble(persons, by(Person.class).getSalary(), KeyAmbiguityPolicy.KEEP_FIRST)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "field" -> "entity"
+     */
+    public static <T> DoubleKeyMap<T> groupByDouble(Collection<T> collection, double by,
+                                            KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByDouble("groupByDouble", collection, keyAmbiguityPolicy,
+                new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Groups entities from given collection by given double field without boxing of keys.
+     * Use this when there are entities with equal keys.
+     * Usage example: {@code groupToListsByDouble(persons, by(Person.class).getSalary())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "field" -> List of "entities"
+     */
+    public static <T> DoubleKeyMap<List<T>> groupToListsByDouble(Collection<T> collection, double by) {
+        return PrimitiveGroupHelper.groupToListsByDouble("groupToListsByDouble", collection,
+                new EntityAsValueExtractor<T>(),
+                J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Creates mapping from some double field of the entity to another without boxing of keys.
+     * If few entities would have equal keys, keeps only last occurrence.
+     * Usage example: {@code mapByDouble(persons, from(Person.class).getSalary(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "from" -> "to"
+     */
+    public static <V, T> DoubleKeyMap<V> mapByDouble(Collection<T> collection, double from, V to) {
+        return mapByDouble(collection, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates mapping from some double field of the entity to another without boxing of keys.
+     * Usage example: {@code mapByDouble(persons, from(Person.class).getSalary(), to(Person.class).getName(), KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "from" -> "to"
+     */
+    public static <V, T> DoubleKeyMap<V> mapByDouble(Collection<T> collection, double from, V to,
+                                             KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return PrimitiveGroupHelper.groupByDouble("mapByDouble", collection, keyAmbiguityPolicy,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Creates mapping from some double field of the entity to another without boxing of keys.
+     * Use this when there are few entities with equal key.
+     * Usage example: {@code mapToListsByDouble(persons, from(Person.class).getSalary(), to(Person.class).getName())}
+     * @param collection - given collection
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <V> - type of "to" field
+     * @param <T> - type of collection
+     * @return DoubleKeyMap "from" -> List of "to"
+     */
+    public static <V, T> DoubleKeyMap<List<V>> mapToListsByDouble(Collection<T> collection, double from, V to) {
+        return PrimitiveGroupHelper.groupToListsByDouble("mapToListsByDouble", collection,
+                new SecondArgumentValueExtractor<T, V>(),
+                J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+    }
+
+    /**
+     * Counts entities from given collection per key in a single pass, without collecting groups.
+     * Usage example: {@code groupCounting(persons, by(Person.class).getSurname())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "field" -> count of entities
+     */
+    public static <K, T> Map<K, Long> groupCounting(Collection<T> collection, K by) {
+        return genericAggregate("groupCounting", collection,
+                new CountingGroupStrategy<K, T>(), J7GroupPrepositions.Preposition.BY);
+    }
+
+    /**
+     * Sums long field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupSumming(persons, by(Person.class).getSurname(), of(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> sum of "of"
+     */
+    public static <K, T> Map<K, Long> groupSumming(Collection<T> collection, K by, long of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupSumming", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new LongAggregatingGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledLongAccessor(), Aggregation.SUM));
+    }
+
+    /**
+     * Sums double field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupSumming(persons, by(Person.class).getSurname(), of(Person.class).getSalary())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> sum of "of"
+     */
+    public static <K, T> Map<K, Double> groupSumming(Collection<T> collection, K by, double of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupSumming", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new DoubleAggregatingGroupStrategy<K, T>(
+                        ProxyHelper.<T>getSecondCalledDoubleAccessor(), Aggregation.SUM));
+    }
+
+    /**
+     * Finds minimal long field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupMin(persons, by(Person.class).getSurname(), of(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> minimum of "of"
+     */
+    public static <K, T> Map<K, Long> groupMin(Collection<T> collection, K by, long of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMin", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new LongAggregatingGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledLongAccessor(), Aggregation.MIN));
+    }
+
+    /**
+     * Finds minimal double field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupMin(persons, by(Person.class).getSurname(), of(Person.class).getSalary())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> minimum of "of"
+     */
+    public static <K, T> Map<K, Double> groupMin(Collection<T> collection, K by, double of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMin", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new DoubleAggregatingGroupStrategy<K, T>(
+                        ProxyHelper.<T>getSecondCalledDoubleAccessor(), Aggregation.MIN));
+    }
+
+    /**
+     * Finds minimal value of comparable field of entities per key in a single pass. Null values are ignored.
+     * Usage example: {@code groupMinComparable(persons, by(Person.class).getSurname(), of(Person.class).getName())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <V> - type of "of" field
+     * @param <T> - type of collection
+     * @return Map "by" -> minimum of "of"
+     */
+    public static <K, V extends Comparable<? super V>, T> Map<K, V> groupMinComparable(Collection<T> collection, K by,
+                                                                                   V of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMinComparable", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new ComparableAggregatingGroupStrategy<K, T, V>(
+                        ProxyHelper.<T, V>getSecondCalledAccessor(), Aggregation.MIN));
+    }
+
+    /**
+     * Finds maximal long field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupMax(persons, by(Person.class).getSurname(), of(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> maximum of "of"
+     */
+    public static <K, T> Map<K, Long> groupMax(Collection<T> collection, K by, long of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMax", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new LongAggregatingGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledLongAccessor(), Aggregation.MAX));
+    }
+
+    /**
+     * Finds maximal double field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupMax(persons, by(Person.class).getSurname(), of(Person.class).getSalary())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> maximum of "of"
+     */
+    public static <K, T> Map<K, Double> groupMax(Collection<T> collection, K by, double of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMax", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new DoubleAggregatingGroupStrategy<K, T>(
+                        ProxyHelper.<T>getSecondCalledDoubleAccessor(), Aggregation.MAX));
+    }
+
+    /**
+     * Finds maximal value of comparable field of entities per key in a single pass. Null values are ignored.
+     * Usage example: {@code groupMaxComparable(persons, by(Person.class).getSurname(), of(Person.class).getName())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <V> - type of "of" field
+     * @param <T> - type of collection
+     * @return Map "by" -> maximum of "of"
+     */
+    public static <K, V extends Comparable<? super V>, T> Map<K, V> groupMaxComparable(Collection<T> collection, K by,
+                                                                                   V of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupMaxComparable", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new ComparableAggregatingGroupStrategy<K, T, V>(
+                        ProxyHelper.<T, V>getSecondCalledAccessor(), Aggregation.MAX));
+    }
+
+    /**
+     * Calculates average of numeric field of entities per key in a single pass.
+     * Usage example: {@code groupAveraging(persons, by(Person.class).getSurname(), of(Person.class).getAge())}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param of - placeholder for "of" construction
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> average of "of"
+     */
+    public static <K, T> Map<K, Double> groupAveraging(Collection<T> collection, K by, double of) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.OF);
+        return aggregateWith("groupAveraging", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new AveragingGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledDoubleAccessor()));
+    }
+
+    /**
+     * Keeps n entities with the highest long field per key, in a single pass and without boxing of the field values.
+     * Only n entities per key are kept in memory.
+     * Usage example: {@code groupTopN(persons, by(Person.class).getSurname(), orderBy(Person.class).getAge(), 3)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param orderBy - placeholder for "orderBy" construction
+     * @param n - maximal number of entities per key, should be positive
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> List of at most n "entities", from the highest "orderBy" to the lowest.
+     * Entities with equal "orderBy" are kept in the order of the collection
+     */
+    public static <K, T> Map<K, List<T>> groupTopN(Collection<T> collection, K by, long orderBy, int n) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.ORDER_BY);
+        checkTopNLimit(n);
+        return aggregateWith("groupTopN", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new LongTopNGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledLongAccessor(), n));
+    }
+
+    /**
+     * Keeps n entities with the highest double field per key, in a single pass and without boxing of the field values.
+     * Only n entities per key are kept in memory.
+     * Usage example: {@code groupTopN(players, by(Player.class).getTeam(), orderBy(Player.class).getRating(), 3)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param orderBy - placeholder for "orderBy" construction
+     * @param n - maximal number of entities per key, should be positive
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @return Map "by" -> List of at most n "entities", from the highest "orderBy" to the lowest.
+     * Entities with equal "orderBy" are kept in the order of the collection
+     */
+    public static <K, T> Map<K, List<T>> groupTopN(Collection<T> collection, K by, double orderBy, int n) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.ORDER_BY);
+        checkTopNLimit(n);
+        return aggregateWith("groupTopN", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new DoubleTopNGroupStrategy<K, T>(ProxyHelper.<T>getSecondCalledDoubleAccessor(), n));
+    }
+
+    /**
+     * Keeps n entities with the highest comparable field per key, in a single pass.
+     * Only n entities per key are kept in memory. Entities with null field are ignored.
+     * Usage example:
+     * {@code groupTopNComparable(persons, by(Person.class).getSurname(), orderBy(Person.class).getName(), 3)}
+     * @param collection - given collection
+     * @param by - placeholder for "by" construction
+     * @param orderBy - placeholder for "orderBy" construction
+     * @param n - maximal number of entities per key, should be positive
+     * @param <K> - type of field for grouping
+     * @param <T> - type of collection
+     * @param <V> - type of field for ordering
+     * @return Map "by" -> List of at most n "entities", from the highest "orderBy" to the lowest.
+     * Entities with equal "orderBy" are kept in the order of the collection
+     */
+    public static <K, T, V extends Comparable<? super V>> Map<K, List<T>> groupTopNComparable(Collection<T> collection,
+                                                                                            K by, V orderBy, int n) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.ORDER_BY);
+        checkTopNLimit(n);
+        return aggregateWith("groupTopNComparable", collection, ProxyHelper.<T, K>getFirstCalledAccessor(),
+                new ComparableTopNGroupStrategy<K, T, V>(ProxyHelper.<T, V>getSecondCalledAccessor(), n));
+    }
+
+    /**
+     * Inner join of two collections by equal keys. Smaller collection is grouped by key,
+     * bigger one is iterated, so order of pairs follows the bigger collection. Null keys never match.
+     * Keys are compared with equals, so boxed keys of different types, like Integer and Long, never match.
+     * Usage example: {@code join(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId())}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param <K> - type of key
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     * @return List of matching pairs
+     */
+    public static <K, L, R> List<Joined<L, R>> join(Collection<L> left, K leftBy, Collection<R> right, K rightBy) {
+        JoinHelper.CollectingJoinConsumer<L, R> consumer = new JoinHelper.CollectingJoinConsumer<>();
+        JoinHelper.innerJoin(left, right, consumer);
+        return consumer.getJoined();
+    }
+
+    /**
+     * Inner join of two collections by equal keys, passing matching pairs to given consumer one by one
+     * instead of collecting them. Null keys never match.
+     * Usage example: {@code join(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId(), consumer)}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param consumer - receiver of matching pairs
+     * @param <K> - type of key
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     */
+    public static <K, L, R> void join(Collection<L> left, K leftBy, Collection<R> right, K rightBy,
+                                      JoinConsumer<L, R> consumer) {
+        JoinHelper.innerJoin(left, right, consumer);
+    }
+
+    /**
+     * Inner join of two collections by equal int keys, without boxing of keys.
+     * Usage example: {@code join(persons, by(Person.class).getAge(), groups, by(AgeGroup.class).getAge())}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     * @return List of matching pairs
+     */
+    public static <L, R> List<Joined<L, R>> join(Collection<L> left, int leftBy, Collection<R> right, int rightBy) {
+        JoinHelper.CollectingJoinConsumer<L, R> consumer = new JoinHelper.CollectingJoinConsumer<>();
+        JoinHelper.innerJoinByInt(left, right, consumer);
+        return consumer.getJoined();
+    }
+
+    /**
+     * Inner join of two collections by equal int keys, without boxing of keys, passing matching pairs
+     * to given consumer one by one.
+     * Usage example: {@code join(persons, by(Person.class).getAge(), groups, by(AgeGroup.class).getAge(), consumer)}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param consumer - receiver of matching pairs
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     */
+    public static <L, R> void join(Collection<L> left, int leftBy, Collection<R> right, int rightBy,
+                                   JoinConsumer<L, R> consumer) {
+        JoinHelper.innerJoinByInt(left, right, consumer);
+    }
+
+    /**
+     * Inner join of two collections by equal long keys, without boxing of keys.
+     * Int keys are widened, so int field of one collection can be joined with long field of another one.
+     * Usage example: {@code join(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId())}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     * @return List of matching pairs
+     */
+    public static <L, R> List<Joined<L, R>> join(Collection<L> left, long leftBy, Collection<R> right, long rightBy) {
+        JoinHelper.CollectingJoinConsumer<L, R> consumer = new JoinHelper.CollectingJoinConsumer<>();
+        JoinHelper.innerJoinByLong(left, right, consumer);
+        return consumer.getJoined();
+    }
+
+    /**
+     * Inner join of two collections by equal long keys, without boxing of keys, passing matching pairs
+     * to given consumer one by one. Int keys are widened.
+     * Usage example: {@code join(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId(), consumer)}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param consumer - receiver of matching pairs
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     */
+    public static <L, R> void join(Collection<L> left, long leftBy, Collection<R> right, long rightBy,
+                                   JoinConsumer<L, R> consumer) {
+        JoinHelper.innerJoinByLong(left, right, consumer);
+    }
+
+    /**
+     * Left outer join of two collections by equal keys. Left entities without match are paired with null.
+     * Right collection is grouped by key, so order of pairs follows the left collection.
+     * Usage example: {@code leftJoin(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId())}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param <K> - type of key
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     * @return List of pairs
+     */
+    public static <K, L, R> List<Joined<L, R>> leftJoin(Collection<L> left, K leftBy, Collection<R> right, K rightBy) {
+        JoinHelper.CollectingJoinConsumer<L, R> consumer = new JoinHelper.CollectingJoinConsumer<>();
+        JoinHelper.leftJoin(left, right, consumer);
+        return consumer.getJoined();
+    }
+
+    /**
+     * Left outer join of two collections by equal keys, passing pairs to given consumer one by one.
+     * Left entities without match are passed with null.
+     * Usage example: {@code leftJoin(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId(), consumer)}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param consumer - receiver of pairs
+     * @param <K> - type of key
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     */
+    public static <K, L, R> void leftJoin(Collection<L> left, K leftBy, Collection<R> right, K rightBy,
+                                          JoinConsumer<L, R> consumer) {
+        JoinHelper.leftJoin(left, right, consumer);
+    }
+
+    /**
+     * Semi join: entities of the left collection which have at least one match in the right collection.
+     * Only keys of the right collection are kept in memory.
+     * Usage example: {@code semiJoin(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId())}
+     * @param left - left collection
+     * @param leftBy - placeholder for "by" construction of the left collection
+     * @param right - right collection
+     * @param rightBy - placeholder for "by" construction of the right collection
+     * @param <K> - type of key
+     * @param <L> - type of left collection
+     * @param <R> - type of right collection
+     * @return List of matching left entities in their order
+     */
+    public static <K, L, R> List<L> semiJoin(Collection<L> left, K leftBy, Collection<R> right, K rightBy) {
+        return JoinHelper.semiJoin(left, right);
+    }
+
+    /**
+     * Starts a batch of operations on the same collection, which are evaluated in a single traversal.
+     * Usage example: {@code onePass(persons).groupToLists(by(Person.class).getAge()).collectToSet(field(Person.class).getName()).run()}
+     * @param elements - given collection
+     * @param <T> - type of collection
+     * @return OnePass to register operations on
+     */
+    public static <T> OnePass<T> onePass(Collection<T> elements) {
+        return new OnePass<>(elements);
+    }
+
+    /**
+     * Splits collection by some boolean field in a single pass.
+     * Usage example: {@code partition(persons, on(Person.class).isAdult())}
+     * @param from - given collection
+     * @param predicate - placeholder for "on" construction
+     * @param <T> - type of collection
+     * @return Partition with elements for which the field is true and all other elements, both in the source order
+     */
+    public static <T> Partition<T> partition(Collection<T> from, boolean predicate) {
+        return PartitionHelper.partition(from);
+    }
+
+    /**
+     * Splits collection by some enum field in a single pass. Elements with null field are skipped.
+     * Usage example: {@code partition(persons, Role.class, on(Person.class).getRole())}
+     * @param from - given collection
+     * @param enumClass - class of the field
+     * @param field - placeholder for "on" construction
+     * @param <T> - type of collection
+     * @param <E> - type of field
+     * @return EnumMap "enum constant" -> "list of elements", with empty lists for absent constants
+     */
+    public static <T, E extends Enum<E>> Map<E, List<T>> partition(Collection<T> from, Class<E> enumClass, E field) {
+        return PartitionHelper.partitionByEnum(from, enumClass);
+    }
+
+    /**
+     * Removes elements from the collection by some boolean field.
+     * Usage example: {@code removeFrom(persons, whereFalse(Person.class).isAdult())}
+     * @param from - given collection
+     * @param predicate - placeholder for "whenTrue" or "whenFalse" construction
+     * @param <T> - type of collection
+     * @return given collection
+     */
+    public static <T> Collection<T> removeFrom(Collection<T> from, boolean predicate) {
+        return removeByPredicate(from);
+    }
+
+    /**
+     * Keeps only elements of the collection which match some boolean field, removes all others.
+     * Usage example: {@code retainIn(persons, whenTrue(Person.class).isAdult())}
+     * @param from - given collection
+     * @param predicate - placeholder for "whenTrue" or "whenFalse" construction
+     * @param <T> - type of collection
+     * @return given collection
+     */
+    public static <T> Collection<T> retainIn(Collection<T> from, boolean predicate) {
+        return retainByPredicate(from);
     }
 }
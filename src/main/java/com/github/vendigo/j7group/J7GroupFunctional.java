@@ -0,0 +1,277 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.*;
+
+/**
+ * Same operations as {@link J7Group}, but fields are given by accessors instead of placeholders:
+ * method references in Java 8 and above, e.g. {@code group(persons, Person::getId)},
+ * or anonymous classes in Java 7.
+ * No proxies are created and no thread local state is used, so final classes and final getters are supported
+ * and calls are safe on any thread. Operations are performed by the same code as in {@link J7Group}.
+ * Getters returning primitive values should be given as {@link IntAccessor}, {@link LongAccessor}
+ * or {@link DoubleAccessor} to avoid boxing.
+ * @author Dmytro Marchenko
+ */
+public final class J7GroupFunctional {
+    private J7GroupFunctional() {
+    }
+
+    /**
+     * Checks that values of some field are unique within collection.
+     * Usage example: {@code isUniqueIn(persons, Person::getName)}
+     * @param in - collection to check uniqueness in
+     * @param field - accessor of the field
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return true if all values are unique
+     */
+    public static <T, V> boolean isUniqueIn(Collection<T> in, Accessor<T, V> field) {
+        return isUnique(in, field);
+    }
+
+    /**
+     * Collects values of some field to list.
+     * Usage example: {@code collectToListFrom(persons, Person::getName)}
+     * @param from - collection to collect values from
+     * @param field - accessor of the field
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return new List with collected values
+     */
+    public static <T, V> List<V> collectToListFrom(Collection<T> from, Accessor<T, V> field) {
+        return collectWith("collectToListFrom", from, field, CollectionFactories.<V>arrayLists());
+    }
+
+    /**
+     * Collects values of some field to set.
+     * Usage example: {@code collectToSetFrom(persons, Person::getName)}
+     * @param from - collection to collect values from
+     * @param field - accessor of the field
+     * @param <T> - type of collection
+     * @param <V> - type of field
+     * @return new Set with collected values
+     */
+    public static <T, V> Set<V> collectToSetFrom(Collection<T> from, Accessor<T, V> field) {
+        return collectWith("collectToSetFrom", from, field, CollectionFactories.<V>hashSets());
+    }
+
+    /**
+     * Collects values of some int field to array, without boxing.
+     * Usage example: {@code collectToIntArray(persons, Person::getAge)}
+     * @param from - collection to collect values from
+     * @param field - accessor of the field
+     * @param <T> - type of collection
+     * @return new array with collected values in the collection order
+     */
+    public static <T> int[] collectToIntArray(Collection<T> from, IntAccessor<T> field) {
+        return PrimitiveGroupHelper.collectIntsWith("collectToIntArray", from, field);
+    }
+
+    /**
+     * Collects elements for which predicate is true.
+     * Usage example: {@code collect(persons, Person::isAdult)}
+     * @param from - collection to collect elements from
+     * @param predicate - accessor of the boolean field
+     * @param <T> - type of collection
+     * @return new List with collected elements
+     */
+    public static <T> List<T> collect(Collection<T> from, Accessor<T, Boolean> predicate) {
+        return filter(from, predicate, true);
+    }
+
+    /**
+     * Groups elements by some field. If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code group(persons, Person::getName)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> group(Iterable<T> elements, Accessor<T, K> by) {
+        return group(elements, by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Groups elements by some field.
+     * Usage example: {@code group(persons, Person::getName, KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> "entity"
+     */
+    public static <K, T> Map<K, T> group(Iterable<T> elements, Accessor<T, K> by,
+                                         KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return groupWith("group", elements, by, GroupHelper.<K, T>resolveGroupStrategy(keyAmbiguityPolicy),
+                new EntityAsValueExtractor<T>(), 0);
+    }
+
+    /**
+     * Groups elements by some field to lists.
+     * Usage example: {@code groupToLists(persons, Person::getSurname)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> List of "entities"
+     */
+    public static <K, T> Map<K, List<T>> groupToLists(Iterable<T> elements, Accessor<T, K> by) {
+        return groupWith("groupToLists", elements, by, new ToCollectionGroupStrategy<K, T, List<T>>(
+                CollectionFactories.<T>arrayLists(), DEFAULT_CAPACITY), new EntityAsValueExtractor<T>(), 0);
+    }
+
+    /**
+     * Groups elements by some field to sets.
+     * Usage example: {@code groupToSets(persons, Person::getSurname)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "field" -> Set of "entities"
+     */
+    public static <K, T> Map<K, Set<T>> groupToSets(Iterable<T> elements, Accessor<T, K> by) {
+        return groupWith("groupToSets", elements, by, new ToCollectionGroupStrategy<K, T, Set<T>>(
+                CollectionFactories.<T>hashSets(), DEFAULT_CAPACITY), new EntityAsValueExtractor<T>(), 0);
+    }
+
+    /**
+     * Groups elements by some int field, without boxing of keys.
+     * If few entities would have equal key, keeps only last occurrence.
+     * Usage example: {@code groupByInt(persons, Person::getId)}
+     * @param collection - given collection
+     * @param by - accessor of the int field for grouping
+     * @param <T> - type of collection
+     * @return IntKeyMap "field" -> "entity"
+     */
+    public static <T> IntKeyMap<T> groupByInt(Collection<T> collection, IntAccessor<T> by) {
+        return PrimitiveGroupHelper.groupByIntWith("groupByInt", collection, by, KeyAmbiguityPolicy.KEEP_LAST,
+                new EntityAsValueExtractor<T>());
+    }
+
+    /**
+     * Groups elements by some int field to lists, without boxing of keys.
+     * Usage example: {@code groupToListsByInt(persons, Person::getAge)}
+     * @param collection - given collection
+     * @param by - accessor of the int field for grouping
+     * @param <T> - type of collection
+     * @return IntKeyMap "field" -> List of "entities"
+     */
+    public static <T> IntKeyMap<List<T>> groupToListsByInt(Collection<T> collection, IntAccessor<T> by) {
+        return PrimitiveGroupHelper.groupToListsByIntWith("groupToListsByInt", collection, by,
+                new EntityAsValueExtractor<T>());
+    }
+
+    /**
+     * Creates mapping from some field of the entity to another. If few entities would have equal key,
+     * keeps only last occurrence.
+     * Usage example: {@code map(persons, Person::getName, Person::getSurname)}
+     * @param elements - given elements
+     * @param from - accessor of the key field
+     * @param to - accessor of the value field
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> map(Iterable<T> elements, Accessor<T, K> from, Accessor<T, V> to) {
+        return map(elements, from, to, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Creates mapping from some field of the entity to another.
+     * Usage example: {@code map(persons, Person::getName, Person::getSurname, KeyAmbiguityPolicy.FAIL_FAST)}
+     * @param elements - given elements
+     * @param from - accessor of the key field
+     * @param to - accessor of the value field
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> "to"
+     */
+    public static <K, V, T> Map<K, V> map(Iterable<T> elements, Accessor<T, K> from, Accessor<T, V> to,
+                                          KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        return groupWith("map", elements, from, GroupHelper.<K, V>resolveGroupStrategy(keyAmbiguityPolicy),
+                new AccessorValueExtractor<>(to), 0);
+    }
+
+    /**
+     * Creates mapping from some field of the entity to lists of another field.
+     * Usage example: {@code mapToLists(persons, Person::getSurname, Person::getName)}
+     * @param elements - given elements
+     * @param from - accessor of the key field
+     * @param to - accessor of the value field
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @param <T> - type of elements
+     * @return Map "from" -> List of "to"
+     */
+    public static <K, V, T> Map<K, List<V>> mapToLists(Iterable<T> elements, Accessor<T, K> from, Accessor<T, V> to) {
+        return groupWith("mapToLists", elements, from, new ToCollectionGroupStrategy<K, V, List<V>>(
+                CollectionFactories.<V>arrayLists(), DEFAULT_CAPACITY), new AccessorValueExtractor<>(to), 0);
+    }
+
+    /**
+     * Counts entities per key in a single pass, without building the groups.
+     * Usage example: {@code groupCounting(persons, Person::getSurname)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "by" -> number of entities
+     */
+    public static <K, T> Map<K, Long> groupCounting(Iterable<T> elements, Accessor<T, K> by) {
+        return aggregateWith("groupCounting", elements, by, new CountingGroupStrategy<K, T>());
+    }
+
+    /**
+     * Sums long field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupSumming(persons, Person::getSurname, Person::getAge)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param of - accessor of the summed field
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "by" -> sum of "of"
+     */
+    public static <K, T> Map<K, Long> groupSumming(Iterable<T> elements, Accessor<T, K> by, LongAccessor<T> of) {
+        return aggregateWith("groupSumming", elements, by, new LongAggregatingGroupStrategy<K, T>(of, Aggregation.SUM));
+    }
+
+    /**
+     * Averages double field of entities per key in a single pass, without boxing of the field values.
+     * Usage example: {@code groupAveraging(persons, Person::getSurname, Person::getAge)}
+     * @param elements - given elements
+     * @param by - accessor of the field for grouping
+     * @param of - accessor of the averaged field
+     * @param <K> - type of field for grouping
+     * @param <T> - type of elements
+     * @return Map "by" -> average of "of"
+     */
+    public static <K, T> Map<K, Double> groupAveraging(Iterable<T> elements, Accessor<T, K> by, DoubleAccessor<T> of) {
+        return aggregateWith("groupAveraging", elements, by, new AveragingGroupStrategy<K, T>(of));
+    }
+
+    /**
+     * Compiles grouping by some field once, to run it many times.
+     * Usage example: {@code private static final GroupQuery<Person, Integer> BY_AGE = compile(Person::getAge);}
+     * @param by - accessor of the field for grouping
+     * @param <K> - type of field for grouping
+     * @param <T> - type of grouped entities
+     * @return GroupQuery
+     */
+    public static <K, T> GroupQuery<T, K> compile(Accessor<T, K> by) {
+        return new GroupQuery<>(by);
+    }
+}
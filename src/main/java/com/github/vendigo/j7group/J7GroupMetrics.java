@@ -0,0 +1,231 @@
+package com.github.vendigo.j7group;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional instrumentation of J7Group operations. Disabled by default.
+ * While disabled, operations only read one volatile flag and don't measure anything.
+ * While enabled, each operation over a collection updates counters of {@link J7GroupMetricsMXBean}
+ * and is reported to registered {@link OperationListener}s.
+ * Usage example:
+ * <pre>
+ * {@code J7GroupMetrics.registerMBean();
+ * J7GroupMetrics.addListener(new OperationListener() {
+ *     public void operationFinished(OperationEvent event) {
+ *         timer(event.getOperation()).update(event.getTimeNanos(), TimeUnit.NANOSECONDS);
+ *     }
+ * });
+ * J7GroupMetrics.enable();}
+ * </pre>
+ * @author Dmytro Marchenko
+ */
+public final class J7GroupMetrics {
+    static final String OBJECT_NAME = "com.github.vendigo.j7group:type=Metrics";
+    static final int NO_KEYS = -1;
+
+    private static volatile boolean enabled;
+    private static final List<OperationListener> listeners = new CopyOnWriteArrayList<>();
+    private static final Counters counters = new Counters();
+
+    private J7GroupMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static void addListener(OperationListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(OperationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return counters, the same object which is registered as MBean
+     */
+    public static J7GroupMetricsMXBean getCounters() {
+        return counters;
+    }
+
+    /**
+     * Registers counters in platform MBean server as {@value #OBJECT_NAME}, if not registered yet.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(counters, name);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static synchronized void unregisterMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Should be called only when metrics are enabled, with start time taken before the operation.
+     */
+    static void operationFinished(String operation, Class<?> entityClass, long elementsCount, int keysCount,
+                                  long startNanos) {
+        long timeNanos = System.nanoTime() - startNanos;
+        counters.operations.incrementAndGet();
+        counters.elements.addAndGet(elementsCount);
+        if (keysCount != NO_KEYS) {
+            counters.keys.addAndGet(keysCount);
+        }
+        counters.timeNanos.addAndGet(timeNanos);
+
+        if (listeners.isEmpty()) {
+            return;
+        }
+        OperationEvent event = new OperationEvent(operation, entityClass, elementsCount, keysCount, timeNanos);
+        for (OperationListener listener : listeners) {
+            try {
+                listener.operationFinished(event);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #operationFinished(String, Class, long, int, long)} for operations over a collection.
+     */
+    static void operationFinished(String operation, Collection<?> elements, int keysCount, long startNanos) {
+        operationFinished(operation, entityClassOf(elements), elements.size(), keysCount, startNanos);
+    }
+
+    static void accessorRequested(boolean cached) {
+        if (enabled) {
+            (cached ? counters.accessorHits : counters.accessorMisses).incrementAndGet();
+        }
+    }
+
+    static void placeholderRequested() {
+        if (enabled) {
+            counters.placeholderRequests.incrementAndGet();
+        }
+    }
+
+    static void placeholderCreated() {
+        if (enabled) {
+            counters.placeholderMisses.incrementAndGet();
+        }
+    }
+
+    static void extractionFailed() {
+        if (enabled) {
+            counters.extractionFailures.incrementAndGet();
+        }
+    }
+
+    static Class<?> entityClassOf(Collection<?> elements) {
+        Iterator<?> iterator = elements.iterator();
+        if (iterator.hasNext()) {
+            Object first = iterator.next();
+            return first == null ? null : first.getClass();
+        }
+        return null;
+    }
+
+    private static class Counters implements J7GroupMetricsMXBean {
+        private final AtomicLong operations = new AtomicLong();
+        private final AtomicLong elements = new AtomicLong();
+        private final AtomicLong keys = new AtomicLong();
+        private final AtomicLong timeNanos = new AtomicLong();
+        private final AtomicLong accessorHits = new AtomicLong();
+        private final AtomicLong accessorMisses = new AtomicLong();
+        private final AtomicLong placeholderRequests = new AtomicLong();
+        private final AtomicLong placeholderMisses = new AtomicLong();
+        private final AtomicLong extractionFailures = new AtomicLong();
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void setEnabled(boolean value) {
+            enabled = value;
+        }
+
+        @Override
+        public long getOperationsCount() {
+            return operations.get();
+        }
+
+        @Override
+        public long getElementsProcessed() {
+            return elements.get();
+        }
+
+        @Override
+        public long getKeysProduced() {
+            return keys.get();
+        }
+
+        @Override
+        public long getTotalTimeNanos() {
+            return timeNanos.get();
+        }
+
+        @Override
+        public long getAccessorCacheHits() {
+            return accessorHits.get();
+        }
+
+        @Override
+        public long getAccessorCacheMisses() {
+            return accessorMisses.get();
+        }
+
+        @Override
+        public long getPlaceholderCacheHits() {
+            return Math.max(0, placeholderRequests.get() - placeholderMisses.get());
+        }
+
+        @Override
+        public long getPlaceholderCacheMisses() {
+            return placeholderMisses.get();
+        }
+
+        @Override
+        public long getExtractionFailures() {
+            return extractionFailures.get();
+        }
+
+        @Override
+        public void reset() {
+            for (AtomicLong counter : new AtomicLong[]{operations, elements, keys, timeNanos, accessorHits,
+                    accessorMisses, placeholderRequests, placeholderMisses, extractionFailures}) {
+                counter.set(0);
+            }
+        }
+    }
+}
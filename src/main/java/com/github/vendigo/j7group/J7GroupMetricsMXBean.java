@@ -0,0 +1,36 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Counters of J7Group operations since metrics were enabled or reset.
+ * Registered in platform MBean server by {@link J7GroupMetrics#registerMBean()}.
+ * @author Dmytro Marchenko
+ */
+public interface J7GroupMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getOperationsCount();
+
+    long getElementsProcessed();
+
+    long getKeysProduced();
+
+    long getTotalTimeNanos();
+
+    long getAccessorCacheHits();
+
+    long getAccessorCacheMisses();
+
+    long getPlaceholderCacheHits();
+
+    long getPlaceholderCacheMisses();
+
+    long getExtractionFailures();
+
+    /**
+     * Sets all counters to zero.
+     */
+    void reset();
+}
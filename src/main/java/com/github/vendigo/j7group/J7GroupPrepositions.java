@@ -3,6 +3,7 @@ package com.github.vendigo.j7group;
 import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
 
 import java.util.Collection;
+import java.util.List;
 
 import static com.github.vendigo.j7group.ProxyHelper.*;
 
@@ -15,15 +16,29 @@ public class J7GroupPrepositions {
     }
 
     enum Preposition {
-        FIELD, BY, FROM, TO, WHEN_TRUE, WHEN_FALSE
+        FIELD, BY, FROM, TO, OF, WHEN_TRUE, WHEN_FALSE, ON, ORDER_BY
     }
 
     /**
      * Used as second argument in:
      * <ul>
      * <li>{@link J7Group#isUniqueIn(Collection, Object)}</li>
+     * <li>{@link J7Group#findDuplicates(Collection, Object)}</li>
+     * <li>{@link J7Group#parallelFindDuplicates(Collection, Object)}</li>
+     * <li>{@link J7Group#countDuplicates(Collection, Object)}</li>
      * <li>{@link J7Group#collectToListFrom(Collection, Object)}</li>
      * <li>{@link J7Group#collectToSetFrom(Collection, Object)}</li>
+     * <li>{@link J7Group#collectToLazyListFrom(List, Object)}</li>
+     * <li>{@link J7Group#collectToLazyListFrom(List, Object, boolean)}</li>
+     * <li>{@link J7Group#collectToIntArray(Collection, int)}</li>
+     * <li>{@link J7Group#collectToLongArray(Collection, long)}</li>
+     * <li>{@link J7Group#collectToDoubleArray(Collection, double)}</li>
+     * <li>{@link ColumnProjection#intColumn(int)}</li>
+     * <li>{@link ColumnProjection#longColumn(long)}</li>
+     * <li>{@link ColumnProjection#doubleColumn(double)}</li>
+     * <li>{@link OnePass#collectToList(Object)}</li>
+     * <li>{@link OnePass#collectToSet(Object)}</li>
+     * <li>{@link OnePass#isUnique(Object)}</li>
      * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of given entity
@@ -34,12 +49,76 @@ public class J7GroupPrepositions {
     }
 
     /**
-     * Used as second argument in:
+     * Used as second argument in groupings and as second and fourth arguments in joins:
      * <ul>
      * <li>{@link J7Group#group(Collection, Object)}</li>
      * <li>{@link J7Group#group(Collection, Object, KeyAmbiguityPolicy)}</li>
      * <li>{@link J7Group#groupToLists(Collection, Object)}</li>
      * <li>{@link J7Group#groupToSets(Collection, Object)}</li>
+     * <li>{@link J7Group#groupToLists(Collection, Object, int, int)}</li>
+     * <li>{@link J7Group#groupToCollections(Collection, Object, CollectionFactory)}</li>
+     * <li>{@link J7Group#groupToCollections(Collection, Object, CollectionFactory, int, int)}</li>
+     * <li>{@link J7Group#group(Iterable, Object)}</li>
+     * <li>{@link J7Group#group(Iterable, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#groupToLists(Iterable, Object)}</li>
+     * <li>{@link J7Group#groupToSets(Iterable, Object)}</li>
+     * <li>{@link J7Group#liveIndex(Collection, Object)}</li>
+     * <li>{@link J7Group#groupToSortedIndex(Collection, Comparable)}</li>
+     * <li>{@link J7Group#groupToSortedIndex(Collection, Object, java.util.Comparator)}</li>
+     * <li>{@link J7Group#compile(Object)}</li>
+     * <li>{@link J7Group#join(Collection, Object, Collection, Object)}</li>
+     * <li>{@link J7Group#join(Collection, Object, Collection, Object, JoinConsumer)}</li>
+     * <li>{@link J7Group#join(Collection, int, Collection, int)}</li>
+     * <li>{@link J7Group#join(Collection, int, Collection, int, JoinConsumer)}</li>
+     * <li>{@link J7Group#join(Collection, long, Collection, long)}</li>
+     * <li>{@link J7Group#join(Collection, long, Collection, long, JoinConsumer)}</li>
+     * <li>{@link J7Group#leftJoin(Collection, Object, Collection, Object)}</li>
+     * <li>{@link J7Group#leftJoin(Collection, Object, Collection, Object, JoinConsumer)}</li>
+     * <li>{@link J7Group#semiJoin(Collection, Object, Collection, Object)}</li>
+     * <li>{@link J7Group#concurrentGrouper(Object)}</li>
+     * <li>{@link J7Group#concurrentGrouper(Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#concurrentGrouperToLists(Object)}</li>
+     * <li>{@link J7Group#concurrentGrouperToSets(Object)}</li>
+     * <li>{@link J7Group#grouper(Object)}</li>
+     * <li>{@link J7Group#grouper(Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#grouperToLists(Object)}</li>
+     * <li>{@link J7Group#grouperToSets(Object)}</li>
+     * <li>{@link J7Group#parallelGroup(Collection, Object)}</li>
+     * <li>{@link J7Group#parallelGroup(Collection, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#parallelGroupToLists(Collection, Object)}</li>
+     * <li>{@link J7Group#parallelGroupToSets(Collection, Object)}</li>
+     * <li>{@link J7Group#groupByInt(Collection, int)}</li>
+     * <li>{@link J7Group#groupByInt(Collection, int, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#groupToListsByInt(Collection, int)}</li>
+     * <li>{@link J7Group#groupByLong(Collection, long)}</li>
+     * <li>{@link J7Group#groupByLong(Collection, long, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#groupToListsByLong(Collection, long)}</li>
+     * <li>{@link J7Group#groupByDouble(Collection, double)}</li>
+     * <li>{@link J7Group#groupByDouble(Collection, double, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#groupToListsByDouble(Collection, double)}</li>
+     * <li>{@link J7Group#groupCounting(Collection, Object)}</li>
+     * <li>{@link J7Group#groupSumming(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupSumming(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMin(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupMin(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMinComparable(Collection, Object, Comparable)}</li>
+     * <li>{@link J7Group#groupMax(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupMax(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMaxComparable(Collection, Object, Comparable)}</li>
+     * <li>{@link J7Group#groupAveraging(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupTopN(Collection, Object, long, int)}</li>
+     * <li>{@link J7Group#groupTopN(Collection, Object, double, int)}</li>
+     * <li>{@link J7Group#groupTopNComparable(Collection, Object, Comparable, int)}</li>
+     * <li>{@link J7Group#distinctBy(Collection, Object)}</li>
+     * <li>{@link J7Group#distinctBy(Collection, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#distinctByInt(Collection, int, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#distinctByLong(Collection, long, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#distinctByDouble(Collection, double, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#distinctIterator(Iterable, Object)}</li>
+     * <li>{@link OnePass#group(Object)}</li>
+     * <li>{@link OnePass#group(Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link OnePass#groupToLists(Object)}</li>
+     * <li>{@link OnePass#groupToSets(Object)}</li>
      * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of given entity
@@ -56,6 +135,30 @@ public class J7GroupPrepositions {
      * <li>{@link J7Group#map(Collection, Object, Object, KeyAmbiguityPolicy)}</li>
      * <li>{@link J7Group#mapToLists(Collection, Object, Object)}</li>
      * <li>{@link J7Group#mapToSets(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#mapToCollections(Collection, Object, Object, CollectionFactory)}</li>
+     * <li>{@link J7Group#mapToCollections(Collection, Object, Object, CollectionFactory, int, int)}</li>
+     * <li>{@link J7Group#map(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#map(Iterable, Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToLists(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#mapToSets(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#mapper(Object, Object)}</li>
+     * <li>{@link J7Group#mapper(Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapperToLists(Object, Object)}</li>
+     * <li>{@link J7Group#mapperToSets(Object, Object)}</li>
+     * <li>{@link J7Group#parallelMap(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#parallelMap(Collection, Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#parallelMapToLists(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#parallelMapToSets(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#mapByInt(Collection, int, Object)}</li>
+     * <li>{@link J7Group#mapByInt(Collection, int, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByInt(Collection, int, Object)}</li>
+     * <li>{@link J7Group#mapByLong(Collection, long, Object)}</li>
+     * <li>{@link J7Group#mapByLong(Collection, long, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByLong(Collection, long, Object)}</li>
+     * <li>{@link J7Group#mapByDouble(Collection, double, Object)}</li>
+     * <li>{@link J7Group#mapByDouble(Collection, double, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByDouble(Collection, double, Object)}</li>
+     * <li>{@link OnePass#map(Object, Object)}</li>
      * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of given entity
@@ -72,6 +175,30 @@ public class J7GroupPrepositions {
      * <li>{@link J7Group#map(Collection, Object, Object, KeyAmbiguityPolicy)}</li>
      * <li>{@link J7Group#mapToLists(Collection, Object, Object)}</li>
      * <li>{@link J7Group#mapToSets(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#mapToCollections(Collection, Object, Object, CollectionFactory)}</li>
+     * <li>{@link J7Group#mapToCollections(Collection, Object, Object, CollectionFactory, int, int)}</li>
+     * <li>{@link J7Group#map(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#map(Iterable, Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToLists(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#mapToSets(Iterable, Object, Object)}</li>
+     * <li>{@link J7Group#mapper(Object, Object)}</li>
+     * <li>{@link J7Group#mapper(Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapperToLists(Object, Object)}</li>
+     * <li>{@link J7Group#mapperToSets(Object, Object)}</li>
+     * <li>{@link J7Group#parallelMap(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#parallelMap(Collection, Object, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#parallelMapToLists(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#parallelMapToSets(Collection, Object, Object)}</li>
+     * <li>{@link J7Group#mapByInt(Collection, int, Object)}</li>
+     * <li>{@link J7Group#mapByInt(Collection, int, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByInt(Collection, int, Object)}</li>
+     * <li>{@link J7Group#mapByLong(Collection, long, Object)}</li>
+     * <li>{@link J7Group#mapByLong(Collection, long, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByLong(Collection, long, Object)}</li>
+     * <li>{@link J7Group#mapByDouble(Collection, double, Object)}</li>
+     * <li>{@link J7Group#mapByDouble(Collection, double, Object, KeyAmbiguityPolicy)}</li>
+     * <li>{@link J7Group#mapToListsByDouble(Collection, double, Object)}</li>
+     * <li>{@link OnePass#map(Object, Object)}</li>
      * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of given entity
@@ -81,9 +208,49 @@ public class J7GroupPrepositions {
         return interceptAsSecondArgument(entityClass);
     }
 
+    /**
+     * Used as third argument in:
+     * <ul>
+     * <li>{@link J7Group#groupSumming(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupSumming(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMin(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupMin(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMinComparable(Collection, Object, Comparable)}</li>
+     * <li>{@link J7Group#groupMax(Collection, Object, long)}</li>
+     * <li>{@link J7Group#groupMax(Collection, Object, double)}</li>
+     * <li>{@link J7Group#groupMaxComparable(Collection, Object, Comparable)}</li>
+     * <li>{@link J7Group#groupAveraging(Collection, Object, double)}</li>
+     * </ul>
+     * @param entityClass - class of target entity
+     * @param <T> - type of given entity
+     */
+    public static <T> T of(Class<T> entityClass) {
+        addCalledPreposition(Preposition.OF);
+        return interceptAsSecondArgument(entityClass);
+    }
+
+    /**
+     * Used as third argument in:
+     * <ul>
+     * <li>{@link J7Group#groupTopN(Collection, Object, long, int)}</li>
+     * <li>{@link J7Group#groupTopN(Collection, Object, double, int)}</li>
+     * <li>{@link J7Group#groupTopNComparable(Collection, Object, Comparable, int)}</li>
+     * </ul>
+     * @param entityClass - class of target entity
+     * @param <T> - type of given entity
+     */
+    public static <T> T orderBy(Class<T> entityClass) {
+        addCalledPreposition(Preposition.ORDER_BY);
+        return interceptAsSecondArgument(entityClass);
+    }
+
     /**
      * Used as second argument in:
-     * {@link J7Group#collect(Collection, boolean)}
+     * <ul>
+     * <li>{@link J7Group#collect(Collection, boolean)}</li>
+     * <li>{@link J7Group#removeFrom(Collection, boolean)}</li>
+     * <li>{@link J7Group#retainIn(Collection, boolean)}</li>
+     * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of collected entity
      */
@@ -94,7 +261,11 @@ public class J7GroupPrepositions {
 
     /**
      * Used as second argument in:
-     * {@link J7Group#collect(Collection, boolean)}
+     * <ul>
+     * <li>{@link J7Group#collect(Collection, boolean)}</li>
+     * <li>{@link J7Group#removeFrom(Collection, boolean)}</li>
+     * <li>{@link J7Group#retainIn(Collection, boolean)}</li>
+     * </ul>
      * @param entityClass - class of target entity
      * @param <T> - type of collected entity
      */
@@ -102,4 +273,18 @@ public class J7GroupPrepositions {
         addCalledPreposition(Preposition.WHEN_FALSE);
         return interceptAsFirstArgument(entityClass);
     }
+
+    /**
+     * Used as second argument in:
+     * <ul>
+     * <li>{@link J7Group#partition(Collection, boolean)}</li>
+     * <li>{@link J7Group#partition(Collection, Class, Enum)}</li>
+     * </ul>
+     * @param entityClass - class of target entity
+     * @param <T> - type of partitioned entity
+     */
+    public static <T> T on(Class<T> entityClass) {
+        addCalledPreposition(Preposition.ON);
+        return interceptAsFirstArgument(entityClass);
+    }
 }
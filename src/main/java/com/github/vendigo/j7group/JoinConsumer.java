@@ -0,0 +1,25 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Receives results of the join one by one, so they don't have to be collected to a list.
+ * Usage example:
+ * <pre>
+ * {@code join(persons, by(Person.class).getId(), orders, by(Order.class).getPersonId(),
+ *         new JoinConsumer<Person, Order>() {
+ *             public void accept(Person person, Order order) {
+ *                 ...
+ *             }
+ *         });}
+ * </pre>
+ * @param <L> - type of left entities
+ * @param <R> - type of right entities
+ * @author Dmytro Marchenko
+ */
+public interface JoinConsumer<L, R> {
+
+    /**
+     * @param left - left entity
+     * @param right - matching right entity, null for left entity without match in left join
+     */
+    void accept(L left, R right);
+}
@@ -0,0 +1,244 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+import com.github.vendigo.j7group.primitive.LongKeyMap;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.*;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Hash joins. One side is grouped by key with the same code as {@link GroupHelper#genericGroup},
+ * another side is iterated and probed against the groups, results go straight to {@link JoinConsumer}.
+ * Null keys never match.
+ */
+class JoinHelper {
+    private static final int LEFT_KEY_INDEX = 0;
+    private static final int RIGHT_KEY_INDEX = 1;
+
+    private JoinHelper() {
+    }
+
+    /**
+     * Groups the smaller side, so memory is proportional to it. Order of results follows the bigger side.
+     */
+    static <K, L, R> void innerJoin(Collection<L> left, Collection<R> right, JoinConsumer<L, R> consumer) {
+        Accessor<L, K> leftKeyAccessor = getCalledAccessor(LEFT_KEY_INDEX);
+        Accessor<R, K> rightKeyAccessor = getCalledAccessor(RIGHT_KEY_INDEX);
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.BY);
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        if (left.size() <= right.size()) {
+            Map<K, List<L>> leftGroups = build(left, leftKeyAccessor);
+            for (R rightEntity : right) {
+                List<L> matches = probe(leftGroups, extractValue(rightKeyAccessor, rightEntity));
+                if (matches != null) {
+                    for (L leftEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        } else {
+            Map<K, List<R>> rightGroups = build(right, rightKeyAccessor);
+            for (L leftEntity : left) {
+                List<R> matches = probe(rightGroups, extractValue(leftKeyAccessor, leftEntity));
+                if (matches != null) {
+                    for (R rightEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        }
+        if (measured) {
+            joinFinished("join", left, right, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <L, R> void innerJoinByInt(Collection<L> left, Collection<R> right, JoinConsumer<L, R> consumer) {
+        IntAccessor<L> leftKeyAccessor = (IntAccessor<L>) ProxyHelper.<L, Integer>getCalledAccessor(LEFT_KEY_INDEX);
+        IntAccessor<R> rightKeyAccessor = (IntAccessor<R>) ProxyHelper.<R, Integer>getCalledAccessor(RIGHT_KEY_INDEX);
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.BY);
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        if (left.size() <= right.size()) {
+            IntKeyMap<List<L>> leftGroups = buildByInt(left, leftKeyAccessor);
+            for (R rightEntity : right) {
+                List<L> matches = leftGroups.get(extractInt(rightKeyAccessor, rightEntity));
+                if (matches != null) {
+                    for (L leftEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        } else {
+            IntKeyMap<List<R>> rightGroups = buildByInt(right, rightKeyAccessor);
+            for (L leftEntity : left) {
+                List<R> matches = rightGroups.get(extractInt(leftKeyAccessor, leftEntity));
+                if (matches != null) {
+                    for (R rightEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        }
+        if (measured) {
+            joinFinished("join", left, right, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+    }
+
+    /**
+     * Int keys are widened, so an int key of one side matches an equal long key of another side.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> void innerJoinByLong(Collection<L> left, Collection<R> right, JoinConsumer<L, R> consumer) {
+        LongAccessor<L> leftKeyAccessor = (LongAccessor<L>) ProxyHelper.<L, Long>getCalledAccessor(LEFT_KEY_INDEX);
+        LongAccessor<R> rightKeyAccessor = (LongAccessor<R>) ProxyHelper.<R, Long>getCalledAccessor(RIGHT_KEY_INDEX);
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.BY);
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        if (left.size() <= right.size()) {
+            LongKeyMap<List<L>> leftGroups = buildByLong(left, leftKeyAccessor);
+            for (R rightEntity : right) {
+                List<L> matches = leftGroups.get(extractLong(rightKeyAccessor, rightEntity));
+                if (matches != null) {
+                    for (L leftEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        } else {
+            LongKeyMap<List<R>> rightGroups = buildByLong(right, rightKeyAccessor);
+            for (L leftEntity : left) {
+                List<R> matches = rightGroups.get(extractLong(leftKeyAccessor, leftEntity));
+                if (matches != null) {
+                    for (R rightEntity : matches) {
+                        consumer.accept(leftEntity, rightEntity);
+                    }
+                }
+            }
+        }
+        if (measured) {
+            joinFinished("join", left, right, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+    }
+
+    /**
+     * Always groups the right side, as every left entity has to be reported. Order of results follows the left side.
+     */
+    static <K, L, R> void leftJoin(Collection<L> left, Collection<R> right, JoinConsumer<L, R> consumer) {
+        Accessor<L, K> leftKeyAccessor = getCalledAccessor(LEFT_KEY_INDEX);
+        Accessor<R, K> rightKeyAccessor = getCalledAccessor(RIGHT_KEY_INDEX);
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.BY);
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        Map<K, List<R>> rightGroups = build(right, rightKeyAccessor);
+        for (L leftEntity : left) {
+            List<R> matches = probe(rightGroups, extractValue(leftKeyAccessor, leftEntity));
+            if (matches == null) {
+                consumer.accept(leftEntity, null);
+            } else {
+                for (R rightEntity : matches) {
+                    consumer.accept(leftEntity, rightEntity);
+                }
+            }
+        }
+        if (measured) {
+            joinFinished("leftJoin", left, right, rightGroups.size(), startNanos);
+        }
+    }
+
+    /**
+     * Keeps only keys of the right side, not the entities.
+     */
+    static <K, L, R> List<L> semiJoin(Collection<L> left, Collection<R> right) {
+        Accessor<L, K> leftKeyAccessor = getCalledAccessor(LEFT_KEY_INDEX);
+        Accessor<R, K> rightKeyAccessor = getCalledAccessor(RIGHT_KEY_INDEX);
+        checkPrepositions(J7GroupPrepositions.Preposition.BY, J7GroupPrepositions.Preposition.BY);
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        Set<K> rightKeys = new HashSet<>();
+        for (R rightEntity : right) {
+            rightKeys.add(extractValue(rightKeyAccessor, rightEntity));
+        }
+        rightKeys.remove(null);
+
+        List<L> matched = new ArrayList<>();
+        for (L leftEntity : left) {
+            if (rightKeys.contains(extractValue(leftKeyAccessor, leftEntity))) {
+                matched.add(leftEntity);
+            }
+        }
+        if (measured) {
+            joinFinished("semiJoin", left, right, rightKeys.size(), startNanos);
+        }
+        return matched;
+    }
+
+    private static void joinFinished(String operation, Collection<?> left, Collection<?> right, int keysCount,
+                                     long startNanos) {
+        J7GroupMetrics.operationFinished(operation, J7GroupMetrics.entityClassOf(left), left.size() + right.size(),
+                keysCount, startNanos);
+    }
+
+    private static <K, T> Map<K, List<T>> build(Collection<T> side, Accessor<T, K> keyAccessor) {
+        Map<K, List<T>> groups = new HashMap<>();
+        groupAll(side, keyAccessor, new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(),
+                DEFAULT_CAPACITY), new EntityAsValueExtractor<T>(), groups);
+        return groups;
+    }
+
+    private static <T> IntKeyMap<List<T>> buildByInt(Collection<T> side, IntAccessor<T> keyAccessor) {
+        IntKeyMap<List<T>> groups = new IntKeyMap<>();
+        for (T entity : side) {
+            int key = extractInt(keyAccessor, entity);
+            List<T> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>(DEFAULT_CAPACITY);
+                groups.put(key, group);
+            }
+            group.add(entity);
+        }
+        return groups;
+    }
+
+    private static <T> LongKeyMap<List<T>> buildByLong(Collection<T> side, LongAccessor<T> keyAccessor) {
+        LongKeyMap<List<T>> groups = new LongKeyMap<>();
+        for (T entity : side) {
+            long key = extractLong(keyAccessor, entity);
+            List<T> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>(DEFAULT_CAPACITY);
+                groups.put(key, group);
+            }
+            group.add(entity);
+        }
+        return groups;
+    }
+
+    private static <K, T> List<T> probe(Map<K, List<T>> groups, K key) {
+        return key == null ? null : groups.get(key);
+    }
+
+    static class CollectingJoinConsumer<L, R> implements JoinConsumer<L, R> {
+        private final List<Joined<L, R>> joined = new ArrayList<>();
+
+        @Override
+        public void accept(L left, R right) {
+            joined.add(new Joined<>(left, right));
+        }
+
+        List<Joined<L, R>> getJoined() {
+            return joined;
+        }
+    }
+}
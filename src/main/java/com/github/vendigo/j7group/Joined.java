@@ -0,0 +1,51 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Pair of matching entities from the join.
+ * @param <L> - type of left entity
+ * @param <R> - type of right entity
+ * @author Dmytro Marchenko
+ */
+public final class Joined<L, R> {
+    private final L left;
+    private final R right;
+
+    Joined(L left, R right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    public L getLeft() {
+        return left;
+    }
+
+    /**
+     * @return matching right entity, null for left entity without match in left join
+     */
+    public R getRight() {
+        return right;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Joined<?, ?> joined = (Joined<?, ?>) o;
+
+        if (left != null ? !left.equals(joined.left) : joined.left != null) return false;
+        return right != null ? right.equals(joined.right) : joined.right == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = left != null ? left.hashCode() : 0;
+        result = 31 * result + (right != null ? right.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + ", " + right + ")";
+    }
+}
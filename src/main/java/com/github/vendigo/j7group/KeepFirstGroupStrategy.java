@@ -12,4 +12,9 @@ class KeepFirstGroupStrategy<K, V> implements GroupStrategy<K, V, V> {
     public void handleNonFirstOccurrence(K key, V newValue, V oldValue, Map<K, V> map) {
 
     }
+
+    @Override
+    public void handleMerge(K key, V earlierValue, V laterValue, Map<K, V> map) {
+
+    }
 }
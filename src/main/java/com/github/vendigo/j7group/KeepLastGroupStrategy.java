@@ -13,4 +13,9 @@ class KeepLastGroupStrategy<K, V> implements GroupStrategy<K, V, V> {
     public void handleNonFirstOccurrence(K key, V newValue, V oldValue, Map<K, V> map) {
         map.put(key, newValue);
     }
+
+    @Override
+    public void handleMerge(K key, V earlierValue, V laterValue, Map<K, V> map) {
+        map.put(key, laterValue);
+    }
 }
@@ -0,0 +1,170 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Grouping of entities by some field, which is kept up to date by {@link #add(Object)}, {@link #remove(Object)}
+ * and {@link #update(Object)} instead of grouping the whole collection again. Each change costs O(1).
+ * Created by {@link J7Group#liveIndex(java.util.Collection, Object)}.
+ * <p>
+ * Reads never lock and may go in parallel with changes. Changes are applied one at a time.
+ * Entities are tracked by identity, so equals and hashCode of entities may depend on the field used for grouping.
+ * Each entity is kept only once, but unlike {@link J7Group#groupToSets(java.util.Collection, Object)}
+ * distinct equal entities are all kept.
+ * @param <K> - type of field for grouping
+ * @param <T> - type of entities
+ * @author Dmytro Marchenko
+ */
+public final class LiveIndex<K, T> {
+    private static final Object NULL_KEY = new Object();
+
+    private final Accessor<T, K> keyAccessor;
+    private final ConcurrentMap<Object, Set<T>> groups;
+    private final ConcurrentMap<IdentityKey, Object> keysOfEntities;
+
+    LiveIndex(Accessor<T, K> keyAccessor, Map<K, Set<T>> initialGroups) {
+        this.keyAccessor = keyAccessor;
+        this.groups = new ConcurrentHashMap<>(Math.max(16, initialGroups.size() * 2));
+        this.keysOfEntities = new ConcurrentHashMap<>();
+        for (Map.Entry<K, Set<T>> group : initialGroups.entrySet()) {
+            Object key = maskNull(group.getKey());
+            groups.put(key, group.getValue());
+            for (T entity : group.getValue()) {
+                keysOfEntities.put(new IdentityKey(entity), key);
+            }
+        }
+    }
+
+    /**
+     * @param key - value of the field
+     * @return unmodifiable live view of entities with given key, empty while there are no such entities.
+     * The view follows later changes of the index, also for keys which were missing or became empty
+     */
+    public Set<T> get(K key) {
+        return new GroupView(maskNull(key));
+    }
+
+    public boolean containsKey(K key) {
+        return groups.containsKey(maskNull(key));
+    }
+
+    /**
+     * @return number of distinct keys
+     */
+    public int keysCount() {
+        return groups.size();
+    }
+
+    /**
+     * @return number of indexed entities
+     */
+    public int size() {
+        return keysOfEntities.size();
+    }
+
+    public boolean contains(T entity) {
+        return keysOfEntities.containsKey(new IdentityKey(entity));
+    }
+
+    /**
+     * Adds entity to the group of its current key. Does nothing if entity is already indexed.
+     * @param entity - new entity
+     */
+    public synchronized void add(T entity) {
+        if (!keysOfEntities.containsKey(new IdentityKey(entity))) {
+            addToGroup(entity, maskNull(extractValue(keyAccessor, entity)));
+        }
+    }
+
+    /**
+     * Removes entity from the index. Entity's key may be already changed.
+     * @param entity - removed entity
+     * @return true if entity was indexed
+     */
+    public synchronized boolean remove(T entity) {
+        Object key = keysOfEntities.remove(new IdentityKey(entity));
+        if (key == null) {
+            return false;
+        }
+        removeFromGroup(entity, key);
+        return true;
+    }
+
+    /**
+     * Moves entity to the group of its current key, should be called after the field used for grouping changes.
+     * Adds entity if it isn't indexed yet.
+     * @param entity - updated entity
+     */
+    public synchronized void update(T entity) {
+        Object newKey = maskNull(extractValue(keyAccessor, entity));
+        Object oldKey = keysOfEntities.get(new IdentityKey(entity));
+        if (oldKey == null) {
+            addToGroup(entity, newKey);
+        } else if (!oldKey.equals(newKey)) {
+            removeFromGroup(entity, oldKey);
+            addToGroup(entity, newKey);
+        }
+    }
+
+    private void addToGroup(T entity, Object key) {
+        Set<T> group = groups.get(key);
+        if (group == null) {
+            group = new ConcurrentIdentitySet<>(GroupHelper.DEFAULT_CAPACITY);
+            groups.put(key, group);
+        }
+        group.add(entity);
+        keysOfEntities.put(new IdentityKey(entity), key);
+    }
+
+    private void removeFromGroup(T entity, Object key) {
+        Set<T> group = groups.get(key);
+        group.remove(entity);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * Looks the group up on each access, as empty groups are dropped and created again when the key reappears.
+     */
+    private class GroupView extends AbstractSet<T> {
+        private final Object key;
+
+        GroupView(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Set<T> group = groups.get(key);
+            return group == null ? Collections.<T>emptyIterator()
+                    : Collections.unmodifiableSet(group).iterator();
+        }
+
+        @Override
+        public int size() {
+            Set<T> group = groups.get(key);
+            return group == null ? 0 : group.size();
+        }
+
+        @Override
+        public boolean contains(Object entity) {
+            Set<T> group = groups.get(key);
+            return group != null && group.contains(entity);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.LongAccessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractLong;
+
+class LongAggregatingGroupStrategy<K, T>
+        extends AggregatingGroupStrategy<K, T, LongAggregatingGroupStrategy.LongAccumulator, Long> {
+    private final LongAccessor<T> fieldAccessor;
+    private final Aggregation aggregation;
+
+    LongAggregatingGroupStrategy(LongAccessor<T> fieldAccessor, Aggregation aggregation) {
+        this.fieldAccessor = fieldAccessor;
+        this.aggregation = aggregation;
+    }
+
+    @Override
+    LongAccumulator createAccumulator(T entity) {
+        LongAccumulator accumulator = new LongAccumulator();
+        accumulator.value = extractLong(fieldAccessor, entity);
+        return accumulator;
+    }
+
+    @Override
+    void accumulate(LongAccumulator accumulator, T entity) {
+        accumulator.value = aggregate(accumulator.value, extractLong(fieldAccessor, entity));
+    }
+
+    @Override
+    void mergeAccumulators(LongAccumulator earlierAccumulator, LongAccumulator laterAccumulator) {
+        earlierAccumulator.value = aggregate(earlierAccumulator.value, laterAccumulator.value);
+    }
+
+    @Override
+    Long result(LongAccumulator accumulator) {
+        return accumulator.value;
+    }
+
+    private long aggregate(long accumulated, long value) {
+        switch (aggregation) {
+            case MIN:
+                return Math.min(accumulated, value);
+            case MAX:
+                return Math.max(accumulated, value);
+            default:
+                return accumulated + value;
+        }
+    }
+
+    static class LongAccumulator {
+        private long value;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.LongAccessor;
+
+import java.util.Arrays;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractLong;
+
+class LongTopNGroupStrategy<K, T> extends TopNGroupStrategy<K, T> {
+    private final LongAccessor<T> fieldAccessor;
+
+    LongTopNGroupStrategy(LongAccessor<T> fieldAccessor, int limit) {
+        super(limit);
+        this.fieldAccessor = fieldAccessor;
+    }
+
+    @Override
+    Heap<T> createHeap() {
+        return new LongHeap<>(fieldAccessor, limit);
+    }
+
+    private static class LongHeap<T> extends Heap<T> {
+        private final LongAccessor<T> fieldAccessor;
+        private long[] values;
+
+        LongHeap(LongAccessor<T> fieldAccessor, int limit) {
+            super(limit);
+            this.fieldAccessor = fieldAccessor;
+            this.values = new long[capacity()];
+        }
+
+        @Override
+        boolean readValue(T entity, int slot) {
+            values[slot] = extractLong(fieldAccessor, entity);
+            return true;
+        }
+
+        @Override
+        void copyValue(Heap<T> from, int fromSlot, int toSlot) {
+            values[toSlot] = ((LongHeap<T>) from).values[fromSlot];
+        }
+
+        @Override
+        int compareValues(int slot, int anotherSlot) {
+            return Long.compare(values[slot], values[anotherSlot]);
+        }
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void swapValues(int slot, int anotherSlot) {
+            long value = values[slot];
+            values[slot] = values[anotherSlot];
+            values[anotherSlot] = value;
+        }
+    }
+}
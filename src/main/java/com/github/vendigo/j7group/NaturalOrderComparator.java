@@ -0,0 +1,10 @@
+package com.github.vendigo.j7group;
+
+import java.util.Comparator;
+
+class NaturalOrderComparator<K extends Comparable<? super K>> implements Comparator<K> {
+    @Override
+    public int compare(K first, K second) {
+        return first.compareTo(second);
+    }
+}
@@ -0,0 +1,300 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.DEFAULT_CAPACITY;
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Several groupings and projections of the same collection, evaluated in a single traversal.
+ * Each element is loaded once, and each distinct accessor is called once per element,
+ * even if few operations use the same field.
+ * Created by {@link J7Group#onePass(Collection)}. Results are available by index of the operation
+ * in order of registration.
+ * Usage example:
+ * <pre>
+ * {@code OnePassResult result = onePass(persons)
+ *         .groupToLists(by(Person.class).getAge())
+ *         .collectToSet(field(Person.class).getName())
+ *         .isUnique(field(Person.class).getName())
+ *         .run();
+ * Map<Integer, List<Person>> personsByAge = result.get(0);
+ * Set<String> names = result.get(1);
+ * boolean uniqueNames = result.get(2);}
+ * </pre>
+ * @param <T> - type of entities
+ * @author Dmytro Marchenko
+ */
+public final class OnePass<T> {
+    private static final int ENTITY_INDEX = -1;
+
+    private final Collection<T> elements;
+    private final List<Accessor<T, ?>> accessors = new ArrayList<>();
+    private final List<Operation<T>> operations = new ArrayList<>();
+
+    OnePass(Collection<T> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Registers grouping. If few entities would have equal key, keeps only last occurrence.
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @return this
+     */
+    public <K> OnePass<T> group(K by) {
+        return group(by, KeyAmbiguityPolicy.KEEP_LAST);
+    }
+
+    /**
+     * Registers grouping.
+     * @param by - placeholder for "by" construction
+     * @param keyAmbiguityPolicy - rule how handle equal keys
+     * @param <K> - type of field for grouping
+     * @return this
+     */
+    public <K> OnePass<T> group(K by, KeyAmbiguityPolicy keyAmbiguityPolicy) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        int keyIndex = indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor());
+        operations.add(new GroupingOperation<T, K, T, T>(keyIndex, ENTITY_INDEX,
+                GroupHelper.<K, T>resolveGroupStrategy(keyAmbiguityPolicy)));
+        return this;
+    }
+
+    /**
+     * Registers grouping to lists.
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @return this
+     */
+    public <K> OnePass<T> groupToLists(K by) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        int keyIndex = indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor());
+        operations.add(new GroupingOperation<T, K, T, List<T>>(keyIndex, ENTITY_INDEX,
+                new ToCollectionGroupStrategy<K, T, List<T>>(CollectionFactories.<T>arrayLists(), DEFAULT_CAPACITY)));
+        return this;
+    }
+
+    /**
+     * Registers grouping to sets.
+     * @param by - placeholder for "by" construction
+     * @param <K> - type of field for grouping
+     * @return this
+     */
+    public <K> OnePass<T> groupToSets(K by) {
+        checkPrepositions(J7GroupPrepositions.Preposition.BY);
+        int keyIndex = indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor());
+        operations.add(new GroupingOperation<T, K, T, Set<T>>(keyIndex, ENTITY_INDEX,
+                new ToCollectionGroupStrategy<K, T, Set<T>>(CollectionFactories.<T>hashSets(), DEFAULT_CAPACITY)));
+        return this;
+    }
+
+    /**
+     * Registers mapping from some field of the entity to another. If few entities would have equal key,
+     * keeps only last occurrence.
+     * @param from - placeholder for "from" construction
+     * @param to - placeholder for "to" construction
+     * @param <K> - type of "from" field
+     * @param <V> - type of "to" field
+     * @return this
+     */
+    public <K, V> OnePass<T> map(K from, V to) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FROM, J7GroupPrepositions.Preposition.TO);
+        int keyIndex = indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor());
+        int valueIndex = indexOf(ProxyHelper.<T, Object>getSecondCalledAccessor());
+        operations.add(new GroupingOperation<T, K, V, V>(keyIndex, valueIndex,
+                GroupHelper.<K, V>resolveGroupStrategy(KeyAmbiguityPolicy.KEEP_LAST)));
+        return this;
+    }
+
+    /**
+     * Registers collecting of field values to list.
+     * @param field - placeholder for "field" construction
+     * @param <V> - type of field
+     * @return this
+     */
+    public <V> OnePass<T> collectToList(V field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        operations.add(new CollectingOperation<T, List<Object>>(indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor()),
+                CollectionFactories.arrayLists()));
+        return this;
+    }
+
+    /**
+     * Registers collecting of field values to set.
+     * @param field - placeholder for "field" construction
+     * @param <V> - type of field
+     * @return this
+     */
+    public <V> OnePass<T> collectToSet(V field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        operations.add(new CollectingOperation<T, Set<Object>>(indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor()),
+                CollectionFactories.hashSets()));
+        return this;
+    }
+
+    /**
+     * Registers uniqueness check of field values. Result is Boolean.
+     * @param field - placeholder for "field" construction
+     * @param <V> - type of field
+     * @return this
+     */
+    public <V> OnePass<T> isUnique(V field) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        operations.add(new UniquenessOperation<T>(indexOf(ProxyHelper.<T, Object>getFirstCalledAccessor())));
+        return this;
+    }
+
+    /**
+     * Traverses the collection once and evaluates all registered operations.
+     * Can be run again, e.g. after the collection was changed.
+     * @return results of operations in order of registration
+     */
+    public OnePassResult run() {
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (Operation<T> operation : operations) {
+            operation.start(elements.size());
+        }
+        @SuppressWarnings("unchecked")
+        Accessor<T, ?>[] passAccessors = accessors.toArray(new Accessor[accessors.size()]);
+        Object[] values = new Object[passAccessors.length];
+        for (T entity : elements) {
+            for (int i = 0; i < passAccessors.length; i++) {
+                values[i] = extractValue(passAccessors[i], entity);
+            }
+            for (Operation<T> operation : operations) {
+                operation.accept(entity, values);
+            }
+        }
+
+        Object[] results = new Object[operations.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = operations.get(i).result();
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished("onePass", J7GroupMetrics.entityClassOf(elements), elements.size(),
+                    J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return new OnePassResult(results);
+    }
+
+    /**
+     * Accessors are cached per getter, so operations on the same field get the same accessor
+     * and share its value.
+     */
+    private int indexOf(Accessor<T, ?> accessor) {
+        for (int i = 0; i < accessors.size(); i++) {
+            if (accessors.get(i) == accessor) {
+                return i;
+            }
+        }
+        accessors.add(accessor);
+        return accessors.size() - 1;
+    }
+
+    private abstract static class Operation<T> {
+        abstract void start(int expectedSize);
+
+        abstract void accept(T entity, Object[] values);
+
+        abstract Object result();
+    }
+
+    private static class GroupingOperation<T, K, V, C> extends Operation<T> {
+        private final int keyIndex;
+        private final int valueIndex;
+        private final GroupStrategy<K, V, C> groupStrategy;
+        private Map<K, C> resultMap;
+
+        GroupingOperation(int keyIndex, int valueIndex, GroupStrategy<K, V, C> groupStrategy) {
+            this.keyIndex = keyIndex;
+            this.valueIndex = valueIndex;
+            this.groupStrategy = groupStrategy;
+        }
+
+        @Override
+        void start(int expectedSize) {
+            resultMap = new HashMap<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void accept(T entity, Object[] values) {
+            K key = (K) values[keyIndex];
+            V newValue = valueIndex == ENTITY_INDEX ? (V) entity : (V) values[valueIndex];
+            C oldValue = resultMap.get(key);
+            if (oldValue == null) {
+                groupStrategy.handleFirstOccurrence(key, newValue, resultMap);
+            } else {
+                groupStrategy.handleNonFirstOccurrence(key, newValue, oldValue, resultMap);
+            }
+        }
+
+        @Override
+        Object result() {
+            return resultMap;
+        }
+    }
+
+    private static class CollectingOperation<T, C extends Collection<Object>> extends Operation<T> {
+        private final int valueIndex;
+        private final CollectionFactory<C> collectionFactory;
+        private C collected;
+
+        CollectingOperation(int valueIndex, CollectionFactory<C> collectionFactory) {
+            this.valueIndex = valueIndex;
+            this.collectionFactory = collectionFactory;
+        }
+
+        @Override
+        void start(int expectedSize) {
+            collected = collectionFactory.create(expectedSize);
+        }
+
+        @Override
+        void accept(T entity, Object[] values) {
+            collected.add(values[valueIndex]);
+        }
+
+        @Override
+        Object result() {
+            return collected;
+        }
+    }
+
+    /**
+     * Stops collecting values after the first duplicate.
+     */
+    private static class UniquenessOperation<T> extends Operation<T> {
+        private final int valueIndex;
+        private Set<Object> seen;
+
+        UniquenessOperation(int valueIndex) {
+            this.valueIndex = valueIndex;
+        }
+
+        @Override
+        void start(int expectedSize) {
+            seen = new HashSet<>(CollectionFactories.hashCapacity(expectedSize));
+        }
+
+        @Override
+        void accept(T entity, Object[] values) {
+            if (seen != null && !seen.add(values[valueIndex])) {
+                seen = null;
+            }
+        }
+
+        @Override
+        Object result() {
+            return seen != null;
+        }
+    }
+}
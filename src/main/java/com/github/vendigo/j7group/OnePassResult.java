@@ -0,0 +1,35 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Results of {@link OnePass#run()}, one per registered operation, in order of registration.
+ * @author Dmytro Marchenko
+ */
+public final class OnePassResult {
+    private final Object[] results;
+
+    OnePassResult(Object[] results) {
+        this.results = results;
+    }
+
+    /**
+     * Usage example: {@code Map<Integer, List<Person>> personsByAge = result.get(0);}
+     * @param index - index of the operation in order of registration
+     * @param <R> - type of the result: Map for groupings and mappings, List or Set for collecting,
+     *            Boolean for uniqueness check
+     * @return result of the operation
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(int index) {
+        if (index < 0 || index >= results.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", operations: " + results.length);
+        }
+        return (R) results[index];
+    }
+
+    /**
+     * @return number of operations
+     */
+    public int size() {
+        return results.length;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Statistics of single finished operation.
+ * @author Dmytro Marchenko
+ */
+public final class OperationEvent {
+    private final String operation;
+    private final Class<?> entityClass;
+    private final long elementsCount;
+    private final int keysCount;
+    private final long timeNanos;
+
+    OperationEvent(String operation, Class<?> entityClass, long elementsCount, int keysCount, long timeNanos) {
+        this.operation = operation;
+        this.entityClass = entityClass;
+        this.elementsCount = elementsCount;
+        this.keysCount = keysCount;
+        this.timeNanos = timeNanos;
+    }
+
+    /**
+     * @return name of the public method which started the operation, e.g. "groupToLists" or "semiJoin"
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return class of processed entities, null if there were no entities
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return number of processed entities
+     */
+    public long getElementsCount() {
+        return elementsCount;
+    }
+
+    /**
+     * @return number of distinct keys produced by grouping, -1 for operations without keys
+     */
+    public int getKeysCount() {
+        return keysCount;
+    }
+
+    /**
+     * @return wall time of the operation in nanoseconds
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationEvent{" +
+                "operation='" + operation + '\'' +
+                ", entityClass=" + entityClass +
+                ", elementsCount=" + elementsCount +
+                ", keysCount=" + keysCount +
+                ", timeNanos=" + timeNanos +
+                '}';
+    }
+}
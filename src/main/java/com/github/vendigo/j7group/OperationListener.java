@@ -0,0 +1,16 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Receives statistics of each finished operation while metrics are enabled,
+ * e.g. to pass them to some metrics system. Called synchronously in the thread which ran the operation,
+ * so it should be fast.
+ * Registered with {@link J7GroupMetrics#addListener(OperationListener)}.
+ * @author Dmytro Marchenko
+ */
+public interface OperationListener {
+
+    /**
+     * @param event - statistics of finished operation
+     */
+    void operationFinished(OperationEvent event);
+}
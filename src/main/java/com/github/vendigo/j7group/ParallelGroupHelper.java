@@ -0,0 +1,157 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import static com.github.vendigo.j7group.GroupHelper.*;
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+import static com.github.vendigo.j7group.ProxyHelper.getFirstCalledAccessor;
+
+class ParallelGroupHelper {
+    static final int MIN_PARTITION_SIZE = 8192;
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private ParallelGroupHelper() {
+    }
+
+    /**
+     * Same as {@link GroupHelper#genericGroup}, but groups parts of the collection in the fork/join pool
+     * and merges partial maps in encounter order using {@link GroupStrategy#handleMerge}.
+     * Prepositions and accessors are resolved in the calling thread, workers don't touch thread locals.
+     */
+    static <K, V, C, T> Map<K, C> parallelGenericGroup(String operation, Collection<T> collection,
+                                                       GroupStrategy<K, V, C> groupStrategy,
+                                                       ValueExtractor<T, V> valueExtractor,
+                                                       J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        Accessor<T, K> keyAccessor = getFirstCalledAccessor();
+
+        ForkJoinPool pool = PoolHolder.POOL;
+        int partitionSize = Math.max(MIN_PARTITION_SIZE,
+                collection.size() / (pool.getParallelism() * PARTITIONS_PER_THREAD));
+        GroupTask<K, V, C, T> task = new GroupTask<>(asRandomAccessList(collection), 0, collection.size(),
+                partitionSize, keyAccessor, groupStrategy, valueExtractor);
+
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        Map<K, C> resultMap;
+        if (collection.size() <= partitionSize) {
+            resultMap = task.compute();
+        } else {
+            resultMap = ForkJoinTask.inForkJoinPool() ? task.invoke() : pool.invoke(task);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, J7GroupMetrics.entityClassOf(collection),
+                    collection.size(), resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    /**
+     * Hash codes of field values of given entities, computed in the fork/join pool.
+     */
+    static <T, V> int[] parallelHashes(List<T> entities, Accessor<T, V> fieldAccessor) {
+        int[] hashes = new int[entities.size()];
+        ForkJoinPool pool = PoolHolder.POOL;
+        int partitionSize = Math.max(MIN_PARTITION_SIZE,
+                entities.size() / (pool.getParallelism() * PARTITIONS_PER_THREAD));
+        HashTask<T, V> task = new HashTask<>(entities, 0, entities.size(), partitionSize, fieldAccessor, hashes);
+
+        if (entities.size() <= partitionSize) {
+            task.compute();
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        return hashes;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> asRandomAccessList(Collection<T> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return (List<T>) collection;
+        }
+        return (List<T>) Arrays.asList(collection.toArray());
+    }
+
+    private static class GroupTask<K, V, C, T> extends RecursiveTask<Map<K, C>> {
+        private final List<T> elements;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+        private final Accessor<T, K> keyAccessor;
+        private final GroupStrategy<K, V, C> groupStrategy;
+        private final ValueExtractor<T, V> valueExtractor;
+
+        GroupTask(List<T> elements, int from, int to, int partitionSize, Accessor<T, K> keyAccessor,
+                  GroupStrategy<K, V, C> groupStrategy, ValueExtractor<T, V> valueExtractor) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+            this.keyAccessor = keyAccessor;
+            this.groupStrategy = groupStrategy;
+            this.valueExtractor = valueExtractor;
+        }
+
+        @Override
+        protected Map<K, C> compute() {
+            if (to - from <= partitionSize) {
+                Map<K, C> resultMap = new HashMap<>();
+                groupAll(elements.subList(from, to), keyAccessor, groupStrategy, valueExtractor, resultMap);
+                return resultMap;
+            }
+
+            int middle = (from + to) >>> 1;
+            GroupTask<K, V, C, T> later = new GroupTask<>(elements, middle, to, partitionSize, keyAccessor,
+                    groupStrategy, valueExtractor);
+            later.fork();
+            Map<K, C> earlierMap = new GroupTask<>(elements, from, middle, partitionSize, keyAccessor,
+                    groupStrategy, valueExtractor).compute();
+            mergeGroups(earlierMap, later.join(), groupStrategy);
+            return earlierMap;
+        }
+    }
+
+    private static class HashTask<T, V> extends RecursiveAction {
+        private final List<T> entities;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+        private final Accessor<T, V> fieldAccessor;
+        private final int[] hashes;
+
+        HashTask(List<T> entities, int from, int to, int partitionSize, Accessor<T, V> fieldAccessor, int[] hashes) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+            this.fieldAccessor = fieldAccessor;
+            this.hashes = hashes;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= partitionSize) {
+                for (int i = from; i < to; i++) {
+                    hashes[i] = DuplicatesHelper.hashOf(extractValue(fieldAccessor, entities.get(i)));
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new HashTask<>(entities, from, middle, partitionSize, fieldAccessor, hashes),
+                    new HashTask<>(entities, middle, to, partitionSize, fieldAccessor, hashes));
+        }
+    }
+
+    private static class PoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.vendigo.j7group;
+
+import java.util.List;
+
+/**
+ * Result of partitioning a collection by some boolean field: elements for which the field is true
+ * and all other elements, both in the source order.
+ * @param <T> - type of partitioned entity
+ * @author Dmytro Marchenko
+ */
+public final class Partition<T> {
+    private final List<T> matching;
+    private final List<T> notMatching;
+
+    Partition(List<T> matching, List<T> notMatching) {
+        this.matching = matching;
+        this.notMatching = notMatching;
+    }
+
+    /**
+     * @return elements for which the field is true
+     */
+    public List<T> getMatching() {
+        return matching;
+    }
+
+    /**
+     * @return elements for which the field is false or null
+     */
+    public List<T> getNotMatching() {
+        return notMatching;
+    }
+
+    @Override
+    public String toString() {
+        return "Partition{" +
+                "matching=" + matching +
+                ", notMatching=" + notMatching +
+                '}';
+    }
+}
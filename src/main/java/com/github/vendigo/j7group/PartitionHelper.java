@@ -0,0 +1,100 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Partitions collection in a single pass over it, with one field extraction per element.
+ * Resulting lists are sized exactly, as the source size is known upfront.
+ */
+class PartitionHelper {
+    private static final int NULL_ORDINAL = -1;
+
+    private PartitionHelper() {
+    }
+
+    /**
+     * Matching elements are put to the buffer from the start, other elements from the end,
+     * then both parts are copied to exactly sized lists.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Partition<T> partition(Collection<T> from) {
+        checkPrepositions(J7GroupPrepositions.Preposition.ON);
+        Accessor<T, Boolean> predicateAccessor = getFirstCalledAccessor();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        Object[] buffer = new Object[from.size()];
+        int head = 0;
+        int tail = buffer.length;
+        for (T entity : from) {
+            if (Boolean.TRUE.equals(extractValue(predicateAccessor, entity))) {
+                buffer[head++] = entity;
+            } else {
+                buffer[--tail] = entity;
+            }
+        }
+
+        List<T> matching = new ArrayList<>(head);
+        for (int i = 0; i < head; i++) {
+            matching.add((T) buffer[i]);
+        }
+        List<T> notMatching = new ArrayList<>(buffer.length - tail);
+        for (int i = buffer.length - 1; i >= tail; i--) {
+            notMatching.add((T) buffer[i]);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished("partition", from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return new Partition<>(matching, notMatching);
+    }
+
+    /**
+     * Ordinals are extracted once and counted per constant, then elements are distributed to exactly
+     * sized lists indexed by ordinal. Elements with null field are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E extends Enum<E>> Map<E, List<T>> partitionByEnum(Collection<T> from, Class<E> enumClass) {
+        checkPrepositions(J7GroupPrepositions.Preposition.ON);
+        Accessor<T, E> enumAccessor = getFirstCalledAccessor();
+        E[] constants = enumClass.getEnumConstants();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        Object[] entities = from.toArray();
+        int[] ordinals = new int[entities.length];
+        int[] counts = new int[constants.length];
+        for (int i = 0; i < entities.length; i++) {
+            E value = extractValue(enumAccessor, (T) entities[i]);
+            if (value == null) {
+                ordinals[i] = NULL_ORDINAL;
+            } else {
+                ordinals[i] = value.ordinal();
+                counts[ordinals[i]]++;
+            }
+        }
+
+        List<T>[] buckets = new List[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            buckets[i] = new ArrayList<>(counts[i]);
+        }
+        for (int i = 0; i < entities.length; i++) {
+            if (ordinals[i] != NULL_ORDINAL) {
+                buckets[ordinals[i]].add((T) entities[i]);
+            }
+        }
+
+        Map<E, List<T>> result = new EnumMap<>(enumClass);
+        for (int i = 0; i < constants.length; i++) {
+            result.put(constants[i], buckets[i]);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished("partition", from, constants.length, startNanos);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,242 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityException;
+import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+import com.github.vendigo.j7group.primitive.DoubleKeyMap;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+import com.github.vendigo.j7group.primitive.LongKeyMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.vendigo.j7group.GroupHelper.DEFAULT_CAPACITY;
+import static com.github.vendigo.j7group.GroupHelper.checkPrepositions;
+import static com.github.vendigo.j7group.ProxyHelper.*;
+
+/**
+ * Grouping by primitive keys. Keys are read with primitive accessors and stored in primitive key maps,
+ * so grouping doesn't box keys. Handling of equal keys is the same as in {@link GroupStrategy} implementations.
+ */
+class PrimitiveGroupHelper {
+    private PrimitiveGroupHelper() {
+    }
+
+    static <T> int[] collectInts(String operation, Collection<T> from) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        return collectIntsWith(operation, from, ProxyHelper.<T>getFirstCalledIntAccessor());
+    }
+
+    static <T> int[] collectIntsWith(String operation, Collection<T> from, IntAccessor<T> fieldAccessor) {
+        int[] collected = new int[from.size()];
+        int index = 0;
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        for (T entity : from) {
+            collected[index++] = extractInt(fieldAccessor, entity);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return collected;
+    }
+
+    static <T> long[] collectLongs(String operation, Collection<T> from) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        LongAccessor<T> fieldAccessor = getFirstCalledLongAccessor();
+        long[] collected = new long[from.size()];
+        int index = 0;
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        for (T entity : from) {
+            collected[index++] = extractLong(fieldAccessor, entity);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return collected;
+    }
+
+    static <T> double[] collectDoubles(String operation, Collection<T> from) {
+        checkPrepositions(J7GroupPrepositions.Preposition.FIELD);
+        DoubleAccessor<T> fieldAccessor = getFirstCalledDoubleAccessor();
+        double[] collected = new double[from.size()];
+        int index = 0;
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        for (T entity : from) {
+            collected[index++] = extractDouble(fieldAccessor, entity);
+        }
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, from, J7GroupMetrics.NO_KEYS, startNanos);
+        }
+        return collected;
+    }
+
+    static <T, V> IntKeyMap<V> groupByInt(String operation, Collection<T> collection,
+                                          KeyAmbiguityPolicy keyAmbiguityPolicy,
+                                          ValueExtractor<T, V> valueExtractor,
+                                          J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        return groupByIntWith(operation, collection, ProxyHelper.<T>getFirstCalledIntAccessor(), keyAmbiguityPolicy,
+                valueExtractor);
+    }
+
+    static <T, V> IntKeyMap<V> groupByIntWith(String operation, Collection<T> collection, IntAccessor<T> keyAccessor,
+                                              KeyAmbiguityPolicy keyAmbiguityPolicy,
+                                              ValueExtractor<T, V> valueExtractor) {
+        IntKeyMap<V> resultMap = new IntKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            int key = extractInt(keyAccessor, entity);
+            V newValue = valueExtractor.extract(entity);
+            if (resultMap.get(key) == null || keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+                resultMap.put(key, newValue);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    static <T, V> IntKeyMap<List<V>> groupToListsByInt(String operation, Collection<T> collection,
+                                                       ValueExtractor<T, V> valueExtractor,
+                                                       J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        return groupToListsByIntWith(operation, collection, ProxyHelper.<T>getFirstCalledIntAccessor(), valueExtractor);
+    }
+
+    static <T, V> IntKeyMap<List<V>> groupToListsByIntWith(String operation, Collection<T> collection,
+                                                           IntAccessor<T> keyAccessor,
+                                                           ValueExtractor<T, V> valueExtractor) {
+        IntKeyMap<List<V>> resultMap = new IntKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            int key = extractInt(keyAccessor, entity);
+            List<V> valuesForKey = resultMap.get(key);
+            if (valuesForKey == null) {
+                valuesForKey = new ArrayList<>(DEFAULT_CAPACITY);
+                resultMap.put(key, valuesForKey);
+            }
+            valuesForKey.add(valueExtractor.extract(entity));
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    static <T, V> LongKeyMap<V> groupByLong(String operation, Collection<T> collection,
+                                            KeyAmbiguityPolicy keyAmbiguityPolicy,
+                                            ValueExtractor<T, V> valueExtractor,
+                                            J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        LongAccessor<T> keyAccessor = getFirstCalledLongAccessor();
+        LongKeyMap<V> resultMap = new LongKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            long key = extractLong(keyAccessor, entity);
+            V newValue = valueExtractor.extract(entity);
+            if (resultMap.get(key) == null || keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+                resultMap.put(key, newValue);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    static <T, V> LongKeyMap<List<V>> groupToListsByLong(String operation, Collection<T> collection,
+                                                         ValueExtractor<T, V> valueExtractor,
+                                                         J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        LongAccessor<T> keyAccessor = getFirstCalledLongAccessor();
+        LongKeyMap<List<V>> resultMap = new LongKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            long key = extractLong(keyAccessor, entity);
+            List<V> valuesForKey = resultMap.get(key);
+            if (valuesForKey == null) {
+                valuesForKey = new ArrayList<>(DEFAULT_CAPACITY);
+                resultMap.put(key, valuesForKey);
+            }
+            valuesForKey.add(valueExtractor.extract(entity));
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    static <T, V> DoubleKeyMap<V> groupByDouble(String operation, Collection<T> collection,
+                                                KeyAmbiguityPolicy keyAmbiguityPolicy,
+                                                ValueExtractor<T, V> valueExtractor,
+                                                J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        DoubleAccessor<T> keyAccessor = getFirstCalledDoubleAccessor();
+        DoubleKeyMap<V> resultMap = new DoubleKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            double key = extractDouble(keyAccessor, entity);
+            V newValue = valueExtractor.extract(entity);
+            if (resultMap.get(key) == null || keyAmbiguityPolicy == KeyAmbiguityPolicy.KEEP_LAST) {
+                resultMap.put(key, newValue);
+            } else if (keyAmbiguityPolicy == KeyAmbiguityPolicy.FAIL_FAST) {
+                throw new KeyAmbiguityException("Key: " + key + " has more than one value");
+            }
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+
+    static <T, V> DoubleKeyMap<List<V>> groupToListsByDouble(String operation, Collection<T> collection,
+                                                             ValueExtractor<T, V> valueExtractor,
+                                                             J7GroupPrepositions.Preposition... expectedPrepositions) {
+        checkPrepositions(expectedPrepositions);
+        DoubleAccessor<T> keyAccessor = getFirstCalledDoubleAccessor();
+        DoubleKeyMap<List<V>> resultMap = new DoubleKeyMap<>();
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+
+        for (T entity : collection) {
+            double key = extractDouble(keyAccessor, entity);
+            List<V> valuesForKey = resultMap.get(key);
+            if (valuesForKey == null) {
+                valuesForKey = new ArrayList<>(DEFAULT_CAPACITY);
+                resultMap.put(key, valuesForKey);
+            }
+            valuesForKey.add(valueExtractor.extract(entity));
+        }
+
+        if (measured) {
+            J7GroupMetrics.operationFinished(operation, collection, resultMap.size(), startNanos);
+        }
+        return resultMap;
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Read-only view of some field of entities from the source list. Values are extracted on demand,
+ * so nothing is copied until the view is read.
+ * Without memoization view reflects later changes of the source list.
+ * With memoization each value is extracted at most once, so source list should not be changed.
+ */
+class ProjectedList<T, V> extends AbstractList<V> {
+    private static final Object NOT_EXTRACTED = new Object();
+
+    private final List<T> source;
+    private final Accessor<T, V> accessor;
+    private final boolean memoize;
+    private Object[] memo;
+
+    ProjectedList(List<T> source, Accessor<T, V> accessor, boolean memoize) {
+        this.source = source;
+        this.accessor = accessor;
+        this.memoize = memoize;
+    }
+
+    static <T, V> List<V> create(List<T> source, Accessor<T, V> accessor, boolean memoize) {
+        if (source instanceof RandomAccess) {
+            return new RandomAccessProjectedList<>(source, accessor, memoize);
+        }
+        return new ProjectedList<>(source, accessor, memoize);
+    }
+
+    @Override
+    public V get(int index) {
+        if (!memoize) {
+            return extractValue(accessor, source.get(index));
+        }
+        Object[] values = getMemo();
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        }
+        if (values[index] == NOT_EXTRACTED) {
+            values[index] = extractValue(accessor, source.get(index));
+        }
+        return value(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return memoize ? getMemo().length : source.size();
+    }
+
+    /**
+     * Walks the source list with its own iterator, so iteration over linked source is linear.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        if (source instanceof RandomAccess) {
+            return super.iterator();
+        }
+        final Iterator<T> sourceIterator = source.iterator();
+        final Object[] values = memoize ? getMemo() : null;
+        return new Iterator<V>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return values == null ? sourceIterator.hasNext() : index < values.length;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T entity = sourceIterator.next();
+                if (values == null) {
+                    return extractValue(accessor, entity);
+                }
+                if (values[index] == NOT_EXTRACTED) {
+                    values[index] = extractValue(accessor, entity);
+                }
+                return value(values[index++]);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private Object[] getMemo() {
+        if (memo == null) {
+            Object[] values = new Object[source.size()];
+            Arrays.fill(values, NOT_EXTRACTED);
+            memo = values;
+        }
+        return memo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(Object value) {
+        return (V) value;
+    }
+
+    private static class RandomAccessProjectedList<T, V> extends ProjectedList<T, V> implements RandomAccess {
+        RandomAccessProjectedList(List<T> source, Accessor<T, V> accessor, boolean memoize) {
+            super(source, accessor, memoize);
+        }
+    }
+}
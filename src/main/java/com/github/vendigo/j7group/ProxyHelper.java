@@ -1,21 +1,87 @@
 package com.github.vendigo.j7group;
 
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.AccessorRecorder;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.GeneratedAccessors;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 
 class ProxyHelper {
-    private final static ThreadLocal<Method> firstCalledMethod = new ThreadLocal<>();
-    private final static ThreadLocal<Method> secondCalledMethod = new ThreadLocal<>();
-    private final static ThreadLocal<List<J7GroupPrepositions.Preposition>> calledPrepositions = new ThreadLocal<>();
+    private final static ThreadLocal<Accessor<?, ?>> firstCalledAccessor = new ThreadLocal<>();
+    private final static ThreadLocal<Accessor<?, ?>> secondCalledAccessor = new ThreadLocal<>();
+    private final static ThreadLocal<List<J7GroupPrepositions.Preposition>> calledPrepositions =
+            new ThreadLocal<List<J7GroupPrepositions.Preposition>>() {
+                @Override
+                protected List<J7GroupPrepositions.Preposition> initialValue() {
+                    return new ArrayList<>(2);
+                }
+            };
+    private final static ThreadLocal<List<Accessor<?, ?>>> calledAccessors =
+            new ThreadLocal<List<Accessor<?, ?>>>() {
+                @Override
+                protected List<Accessor<?, ?>> initialValue() {
+                    return new ArrayList<>(2);
+                }
+            };
 
-    static {
-        calledPrepositions.set(new ArrayList<J7GroupPrepositions.Preposition>(2));
-    }
+    private final static int FIRST_SLOT = 0;
+    private final static int SECOND_SLOT = 1;
+
+    private final static MethodRecorder firstArgumentRecorder =
+            new MethodRecorder(firstCalledAccessor, FIRST_SLOT, false);
+    private final static MethodRecorder secondArgumentRecorder =
+            new MethodRecorder(secondCalledAccessor, SECOND_SLOT, false);
+    private final static MethodRecorder firstChainRecorder =
+            new MethodRecorder(firstCalledAccessor, FIRST_SLOT, true);
+    private final static MethodRecorder secondChainRecorder =
+            new MethodRecorder(secondCalledAccessor, SECOND_SLOT, true);
+
+    /**
+     * Placeholders are stateless (accessor of called method goes to the thread local of the calling thread),
+     * so one instance per entity class and argument slot is shared by all threads.
+     * Values are attached to the entity class itself, so they are dropped together with its class loader.
+     */
+    private final static ClassValue<Placeholders> placeholders = new ClassValue<Placeholders>() {
+        @Override
+        protected Placeholders computeValue(Class<?> entityClass) {
+            J7GroupMetrics.placeholderCreated();
+            return new Placeholders(createPlaceholder(entityClass, firstArgumentRecorder),
+                    createPlaceholder(entityClass, secondArgumentRecorder));
+        }
+    };
+
+    /**
+     * Placeholders returned from recorded getters, so nested getters like
+     * {@code by(Person.class).getAddress().getCity()} can be called on them.
+     * Their recorders append called getter to the accessor recorded so far in the same slot.
+     * They are created for return types of all recorded getters, not only nested ones, so proxies are created
+     * without running constructors of the return type. Empty for return types which can't be proxied this way.
+     */
+    private final static ClassValue<Placeholders> chainPlaceholders = new ClassValue<Placeholders>() {
+        @Override
+        protected Placeholders computeValue(Class<?> returnType) {
+            if (!isChainable(returnType)) {
+                return Placeholders.EMPTY;
+            }
+            try {
+                Object first = createChainPlaceholder(returnType, firstChainRecorder);
+                Object second = createChainPlaceholder(returnType, secondChainRecorder);
+                return first == null || second == null ? Placeholders.EMPTY : new Placeholders(first, second);
+            } catch (Exception e) {
+                return Placeholders.EMPTY;
+            }
+        }
+    };
 
     private ProxyHelper() {
     }
@@ -29,46 +95,206 @@ class ProxyHelper {
     }
 
     static void clearCalledPrepositions() {
-        calledPrepositions.set(new ArrayList<J7GroupPrepositions.Preposition>(2));
+        calledPrepositions.get().clear();
+        calledAccessors.get().clear();
     }
 
+    @SuppressWarnings("unchecked")
     static <T> T interceptAsFirstArgument(Class<T> entityClass) {
-        return createProxy(entityClass, firstCalledMethod);
+        J7GroupMetrics.placeholderRequested();
+        return (T) placeholders.get(entityClass).first;
     }
 
+    @SuppressWarnings("unchecked")
     static <T> T interceptAsSecondArgument(Class<T> entityClass) {
-        return createProxy(entityClass, secondCalledMethod);
+        J7GroupMetrics.placeholderRequested();
+        return (T) placeholders.get(entityClass).second;
     }
 
-    static <T> T extractFirstArgument(Object entity) {
-        return extractValue(entity, firstCalledMethod);
+    /**
+     * Accessor for the method called on the first placeholder. Should be resolved once per operation,
+     * not per element.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> Accessor<T, V> getFirstCalledAccessor() {
+        return (Accessor<T, V>) firstCalledAccessor.get();
     }
 
-    static <T> T extractSecondArgument(Object entity) {
-        return extractValue(entity, secondCalledMethod);
+    /**
+     * Accessor for the method called on the placeholder of given preposition, in order of calls.
+     * Used when several placeholders of the same slot are passed to one operation.
+     * Should be read before prepositions are checked, as the check clears it.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> Accessor<T, V> getCalledAccessor(int index) {
+        List<Accessor<?, ?>> accessors = calledAccessors.get();
+        return index < accessors.size() ? (Accessor<T, V>) accessors.get(index) : null;
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> T createProxy(Class<T> entityClass, final ThreadLocal<Method> methodContainer) {
-        Enhancer enhancer = new Enhancer();
-        enhancer.setSuperclass(entityClass);
-        enhancer.setCallback(new MethodInterceptor() {
-            @Override
-            public Object intercept(Object o, Method method, Object[] objects, MethodProxy methodProxy) throws Throwable {
-                methodContainer.set(method);
-                return null;
-            }
-        });
-        return ((T) enhancer.create());
+    static <T, V> Accessor<T, V> getSecondCalledAccessor() {
+        return (Accessor<T, V>) secondCalledAccessor.get();
     }
 
+    /**
+     * Accessor for the first placeholder which reads int without boxing.
+     * Placeholder's method should return int or narrower type.
+     */
     @SuppressWarnings("unchecked")
-    private static <T> T extractValue(Object entity, ThreadLocal<Method> methodContainer) {
+    static <T> IntAccessor<T> getFirstCalledIntAccessor() {
+        return (IntAccessor<T>) firstCalledAccessor.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> LongAccessor<T> getFirstCalledLongAccessor() {
+        return (LongAccessor<T>) firstCalledAccessor.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> DoubleAccessor<T> getFirstCalledDoubleAccessor() {
+        return (DoubleAccessor<T>) firstCalledAccessor.get();
+    }
+
+    /**
+     * Accessor for the second placeholder which reads long without boxing.
+     * Placeholder's method should return long or narrower type.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> LongAccessor<T> getSecondCalledLongAccessor() {
+        return (LongAccessor<T>) secondCalledAccessor.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> DoubleAccessor<T> getSecondCalledDoubleAccessor() {
+        return (DoubleAccessor<T>) secondCalledAccessor.get();
+    }
+
+    static <T, V> V extractValue(Accessor<T, V> accessor, T entity) {
         try {
-            return (T) methodContainer.get().invoke(entity);
+            return accessor.get(entity);
         } catch (Exception e) {
+            J7GroupMetrics.extractionFailed();
             e.printStackTrace();
         }
         return null;
     }
+
+    static <T> int extractInt(IntAccessor<T> accessor, T entity) {
+        try {
+            return accessor.getInt(entity);
+        } catch (Exception e) {
+            J7GroupMetrics.extractionFailed();
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    static <T> long extractLong(LongAccessor<T> accessor, T entity) {
+        try {
+            return accessor.getLong(entity);
+        } catch (Exception e) {
+            J7GroupMetrics.extractionFailed();
+            e.printStackTrace();
+        }
+        return 0L;
+    }
+
+    static <T> double extractDouble(DoubleAccessor<T> accessor, T entity) {
+        try {
+            return accessor.getDouble(entity);
+        } catch (Exception e) {
+            J7GroupMetrics.extractionFailed();
+            e.printStackTrace();
+        }
+        return 0.0;
+    }
+
+    /**
+     * Uses placeholder generated at compile time if there is one, otherwise creates cglib proxy.
+     */
+    private static <T> Object createPlaceholder(Class<T> entityClass, MethodRecorder recorder) {
+        GeneratedAccessors<T> generatedAccessors = GeneratedAccessorsLookup.find(entityClass);
+        if (generatedAccessors != null) {
+            return generatedAccessors.createPlaceholder(recorder);
+        }
+        return createProxy(entityClass, recorder);
+    }
+
+    private static Object createProxy(Class<?> entityClass, MethodInterceptor recorder) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(entityClass);
+        enhancer.setCallback(recorder);
+        return enhancer.create();
+    }
+
+    /**
+     * Placeholder generated at compile time is created with its constructor, as for the top level placeholders.
+     * Otherwise proxy class is instantiated without running any constructor and recorder is set afterwards.
+     */
+    private static <T> Object createChainPlaceholder(Class<T> returnType, MethodRecorder recorder) {
+        GeneratedAccessors<T> generatedAccessors = GeneratedAccessorsLookup.find(returnType);
+        if (generatedAccessors != null) {
+            return generatedAccessors.createPlaceholder(recorder);
+        }
+
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(returnType);
+        enhancer.setCallbackType(MethodInterceptor.class);
+        Object proxy = ConstructorlessInstantiator.newInstance(enhancer.createClass());
+        if (proxy != null) {
+            ((Factory) proxy).setCallback(0, recorder);
+        }
+        return proxy;
+    }
+
+    private static boolean isChainable(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isInterface() && type != Object.class
+                && !Modifier.isFinal(type.getModifiers());
+    }
+
+    private static class MethodRecorder implements MethodInterceptor, AccessorRecorder {
+        private final ThreadLocal<Accessor<?, ?>> accessorContainer;
+        private final int slot;
+        private final boolean chained;
+
+        MethodRecorder(ThreadLocal<Accessor<?, ?>> accessorContainer, int slot, boolean chained) {
+            this.accessorContainer = accessorContainer;
+            this.slot = slot;
+            this.chained = chained;
+        }
+
+        @Override
+        public Object intercept(Object o, Method method, Object[] objects, MethodProxy methodProxy) throws Throwable {
+            return record(AccessorHelper.getAccessor(o.getClass().getSuperclass(), method), method.getReturnType());
+        }
+
+        @Override
+        public Object record(Accessor<?, ?> accessor, Class<?> returnType) {
+            List<Accessor<?, ?>> accessors = calledAccessors.get();
+            if (chained && !accessors.isEmpty()) {
+                accessor = ChainedAccessor.append(accessorContainer.get(), accessor);
+                accessors.set(accessors.size() - 1, accessor);
+            } else {
+                accessors.add(accessor);
+            }
+            accessorContainer.set(accessor);
+            return chainPlaceholders.get(returnType).get(slot);
+        }
+    }
+
+    private static class Placeholders {
+        private static final Placeholders EMPTY = new Placeholders(null, null);
+
+        private final Object first;
+        private final Object second;
+
+        Placeholders(Object first, Object second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        Object get(int slot) {
+            return slot == FIRST_SLOT ? first : second;
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.DoubleAccessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
+import com.github.vendigo.j7group.accessor.LongAccessor;
+
+import java.lang.reflect.Method;
+
+/**
+ * Fallback for getters which can't be called from generated code, e.g. protected getters of superclass
+ * from another package. Primitive accessors unbox the value returned by reflection.
+ */
+class ReflectiveAccessor<T, V> implements Accessor<T, V>, IntAccessor<T>, LongAccessor<T>, DoubleAccessor<T> {
+    private final Method method;
+
+    ReflectiveAccessor(Method method) {
+        this.method = method;
+        method.setAccessible(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(T entity) {
+        try {
+            return (V) method.invoke(entity);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    @Override
+    public int getInt(T entity) {
+        Object value = get(entity);
+        return value instanceof Character ? (Character) value : ((Number) value).intValue();
+    }
+
+    @Override
+    public long getLong(T entity) {
+        Object value = get(entity);
+        return value instanceof Character ? (Character) value : ((Number) value).longValue();
+    }
+
+    @Override
+    public double getDouble(T entity) {
+        Object value = get(entity);
+        return value instanceof Character ? (Character) value : ((Number) value).doubleValue();
+    }
+}
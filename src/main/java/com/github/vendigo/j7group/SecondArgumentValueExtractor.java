@@ -1,10 +1,19 @@
 package com.github.vendigo.j7group;
 
-import static com.github.vendigo.j7group.ProxyHelper.extractSecondArgument;
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+import static com.github.vendigo.j7group.ProxyHelper.getSecondCalledAccessor;
 
 class SecondArgumentValueExtractor<T, V> implements ValueExtractor<T, V> {
+    private final Accessor<T, V> accessor;
+
+    SecondArgumentValueExtractor() {
+        this.accessor = getSecondCalledAccessor();
+    }
+
     @Override
     public V extract(T entity) {
-        return extractSecondArgument(entity);
+        return extractValue(accessor, entity);
     }
 }
@@ -0,0 +1,232 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.accessor.Accessor;
+
+import java.util.*;
+
+import static com.github.vendigo.j7group.ProxyHelper.extractValue;
+
+/**
+ * Immutable grouping of entities by some field, which keeps keys sorted, so besides lookup by key
+ * it answers range queries. Created by {@link J7Group#groupToSortedIndex(Collection, Comparable)}.
+ * <p>
+ * Entities are kept in one array sorted by key, keys of each group point to the start of the group in it.
+ * So index takes two arrays of references and one array of ints, instead of tree node and list per key.
+ * Lookup by key is a binary search, result of any query is a read-only slice of the entities array.
+ * Within a group entities keep order of the source collection. Null key is less than any other key.
+ * @param <K> - type of field for grouping
+ * @param <T> - type of entities
+ * @author Dmytro Marchenko
+ */
+public final class SortedIndex<K, T> {
+    private final Comparator<Object> keyComparator;
+    private final Object[] keys;
+    private final int[] offsets;
+    private final Object[] entities;
+
+    private SortedIndex(Comparator<Object> keyComparator, Object[] keys, int[] offsets, Object[] entities) {
+        this.keyComparator = keyComparator;
+        this.keys = keys;
+        this.offsets = offsets;
+        this.entities = entities;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, T> SortedIndex<K, T> build(Collection<T> collection, Accessor<T, K> keyAccessor,
+                                          Comparator<? super K> comparator) {
+        boolean measured = J7GroupMetrics.isEnabled();
+        long startNanos = measured ? System.nanoTime() : 0L;
+        Object[] source = collection.toArray();
+        int size = source.length;
+        Object[] sourceKeys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = extractValue(keyAccessor, (T) source[i]);
+        }
+        Comparator<Object> keyComparator = nullsFirst(comparator);
+        int[] order = sortedOrder(sourceKeys, keyComparator);
+
+        Object[] entities = new Object[size];
+        int keysCount = 0;
+        for (int i = 0; i < size; i++) {
+            entities[i] = source[order[i]];
+            if (i == 0 || keyComparator.compare(sourceKeys[order[i - 1]], sourceKeys[order[i]]) != 0) {
+                keysCount++;
+            }
+        }
+
+        Object[] keys = new Object[keysCount];
+        int[] offsets = new int[keysCount + 1];
+        int key = -1;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || keyComparator.compare(sourceKeys[order[i - 1]], sourceKeys[order[i]]) != 0) {
+                keys[++key] = sourceKeys[order[i]];
+                offsets[key] = i;
+            }
+        }
+        offsets[keysCount] = size;
+        if (measured) {
+            J7GroupMetrics.operationFinished("groupToSortedIndex", collection, keysCount, startNanos);
+        }
+        return new SortedIndex<>(keyComparator, keys, offsets, entities);
+    }
+
+    /**
+     * @param key - value of the field
+     * @return read-only list of entities with given key, empty list if there are no such entities
+     */
+    public List<T> get(K key) {
+        int position = search(key);
+        return position < 0 ? Collections.<T>emptyList() : slice(offsets[position], offsets[position + 1]);
+    }
+
+    public boolean containsKey(K key) {
+        return search(key) >= 0;
+    }
+
+    /**
+     * @param from - lowest key, inclusive
+     * @param to - highest key, inclusive
+     * @return read-only list of entities with keys in given range, sorted by key
+     */
+    public List<T> range(K from, K to) {
+        return range(from, true, to, true);
+    }
+
+    /**
+     * @param from - lowest key
+     * @param fromInclusive - whether entities with lowest key should be included
+     * @param to - highest key
+     * @param toInclusive - whether entities with highest key should be included
+     * @return read-only list of entities with keys in given range, sorted by key
+     */
+    public List<T> range(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        int fromKey = lowerBound(from, !fromInclusive);
+        int toKey = lowerBound(to, toInclusive);
+        if (fromKey >= toKey) {
+            return Collections.emptyList();
+        }
+        return slice(offsets[fromKey], offsets[toKey]);
+    }
+
+    /**
+     * @return read-only list of distinct keys in ascending order
+     */
+    @SuppressWarnings("unchecked")
+    public List<K> keys() {
+        return (List<K>) Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * @return number of distinct keys
+     */
+    public int keysCount() {
+        return keys.length;
+    }
+
+    /**
+     * @return number of indexed entities
+     */
+    public int size() {
+        return entities.length;
+    }
+
+    private int search(K key) {
+        int position = lowerBound(key, false);
+        return position < keys.length && keyComparator.compare(keys[position], key) == 0 ? position : -1;
+    }
+
+    /**
+     * @return position of the first key which is greater than given key, or not less if {@code strictlyGreater}
+     * is false
+     */
+    private int lowerBound(K key, boolean strictlyGreater) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = keyComparator.compare(keys[middle], key);
+            if (comparison < 0 || strictlyGreater && comparison == 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<T> slice(int from, int to) {
+        return new Slice<>(entities, from, to);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Comparator<Object> nullsFirst(final Comparator<? super K> comparator) {
+        return new Comparator<Object>() {
+            @Override
+            public int compare(Object first, Object second) {
+                if (first == null || second == null) {
+                    return first == second ? 0 : first == null ? -1 : 1;
+                }
+                return comparator.compare((K) first, (K) second);
+            }
+        };
+    }
+
+    /**
+     * Stable merge sort of positions by keys, so entities with equal keys keep order of the source collection.
+     */
+    private static int[] sortedOrder(Object[] keys, Comparator<Object> comparator) {
+        int size = keys.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size - width; low += 2 * width) {
+                int middle = low + width;
+                int high = Math.min(low + 2 * width, size);
+                if (comparator.compare(keys[order[middle - 1]], keys[order[middle]]) <= 0) {
+                    continue;
+                }
+                System.arraycopy(order, low, buffer, low, high - low);
+                int left = low;
+                int right = middle;
+                for (int i = low; i < high; i++) {
+                    if (right >= high
+                            || left < middle && comparator.compare(keys[buffer[left]], keys[buffer[right]]) <= 0) {
+                        order[i] = buffer[left++];
+                    } else {
+                        order[i] = buffer[right++];
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private static class Slice<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+        private final int from;
+        private final int size;
+
+        Slice(Object[] elements, int from, int to) {
+            this.elements = elements;
+            this.from = from;
+            this.size = to - from;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return (T) elements[from + index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
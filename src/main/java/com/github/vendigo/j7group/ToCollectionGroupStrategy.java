@@ -3,22 +3,19 @@ package com.github.vendigo.j7group;
 import java.util.Collection;
 import java.util.Map;
 
-import static com.github.vendigo.j7group.GroupHelper.createCollectionInstance;
-
 class ToCollectionGroupStrategy<K, V, C extends Collection<V>> implements GroupStrategy<K, V, C> {
 
-    private final Class<? extends Collection> collectionClass;
-    private final int initialCapacity;
+    private final CollectionFactory<C> collectionFactory;
+    private final int expectedGroupSize;
 
-    public ToCollectionGroupStrategy(Class<? extends Collection> collectionClass, int initialCapacity) {
-        this.collectionClass = collectionClass;
-        this.initialCapacity = initialCapacity;
+    ToCollectionGroupStrategy(CollectionFactory<C> collectionFactory, int expectedGroupSize) {
+        this.collectionFactory = collectionFactory;
+        this.expectedGroupSize = expectedGroupSize;
     }
 
-    @SuppressWarnings({"ConstantConditions", "unchecked"})
     @Override
     public void handleFirstOccurrence(K key, V newValue, Map<K, C> map) {
-        C valuesForKey = createCollectionInstance(collectionClass, initialCapacity);
+        C valuesForKey = collectionFactory.create(expectedGroupSize);
         valuesForKey.add(newValue);
         map.put(key, valuesForKey);
     }
@@ -27,4 +24,9 @@ class ToCollectionGroupStrategy<K, V, C extends Collection<V>> implements GroupS
     public void handleNonFirstOccurrence(K key, V newValue, C oldValue, Map<K, C> map) {
         oldValue.add(newValue);
     }
+
+    @Override
+    public void handleMerge(K key, C earlierValue, C laterValue, Map<K, C> map) {
+        earlierValue.addAll(laterValue);
+    }
 }
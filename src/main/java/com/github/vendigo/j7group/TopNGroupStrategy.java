@@ -0,0 +1,193 @@
+package com.github.vendigo.j7group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps at most n entities with the highest values of some field per key, in a bounded min-heap,
+ * so memory is proportional to keys * min(n, size of group) instead of the whole collection.
+ * Among entities with equal values the earlier encountered ones rank higher.
+ * Result lists are sorted from the highest value to the lowest.
+ * @param <K> - type of key
+ * @param <T> - type of entity
+ */
+abstract class TopNGroupStrategy<K, T> extends AggregatingGroupStrategy<K, T, TopNGroupStrategy.Heap<T>, List<T>> {
+    final int limit;
+
+    /**
+     * @param limit - should be positive, checked by {@link GroupHelper#checkTopNLimit(int)}
+     */
+    TopNGroupStrategy(int limit) {
+        this.limit = limit;
+    }
+
+    abstract Heap<T> createHeap();
+
+    @Override
+    Heap<T> createAccumulator(T entity) {
+        Heap<T> heap = createHeap();
+        heap.offer(entity);
+        return heap;
+    }
+
+    @Override
+    void accumulate(Heap<T> accumulator, T entity) {
+        accumulator.offer(entity);
+    }
+
+    @Override
+    void mergeAccumulators(Heap<T> earlierAccumulator, Heap<T> laterAccumulator) {
+        earlierAccumulator.merge(laterAccumulator);
+    }
+
+    @Override
+    List<T> result(Heap<T> accumulator) {
+        return accumulator.toSortedList();
+    }
+
+    /**
+     * Min-heap of entities by rank, root is the lowest ranked one. Values of the field are kept by subclasses
+     * in arrays parallel to entities, so primitive values are compared without boxing.
+     * The slot right after the heap holds the candidate being offered. Arrays start small and grow up to
+     * {@code limit + 1} slots, so a big limit doesn't cost memory for small groups.
+     */
+    abstract static class Heap<T> {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final int limit;
+        private final int maxCapacity;
+        private Object[] entities;
+        private long[] sequences;
+        private int size;
+        private long offered;
+
+        Heap(int limit) {
+            this.limit = limit;
+            this.maxCapacity = limit == Integer.MAX_VALUE ? limit : limit + 1;
+            int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+            this.entities = new Object[capacity];
+            this.sequences = new long[capacity];
+        }
+
+        int capacity() {
+            return entities.length;
+        }
+
+        /**
+         * Stores value of the field of the entity to the slot.
+         * @return false if entity should be ignored
+         */
+        abstract boolean readValue(T entity, int slot);
+
+        abstract void copyValue(Heap<T> from, int fromSlot, int toSlot);
+
+        abstract int compareValues(int slot, int anotherSlot);
+
+        abstract void swapValues(int slot, int anotherSlot);
+
+        abstract void resizeValues(int capacity);
+
+        void offer(T entity) {
+            long sequence = offered++;
+            ensureCandidateSlot();
+            if (readValue(entity, size)) {
+                offerCandidate(entity, sequence);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void merge(Heap<T> later) {
+            long sequenceShift = offered;
+            for (int i = 0; i < later.size; i++) {
+                ensureCandidateSlot();
+                copyValue(later, i, size);
+                offerCandidate((T) later.entities[i], sequenceShift + later.sequences[i]);
+            }
+            offered += later.offered;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> toSortedList() {
+            List<T> sorted = new ArrayList<>(size);
+            while (size > 0) {
+                swap(0, --size);
+                siftDown(0);
+                sorted.add((T) entities[size]);
+                entities[size] = null;
+            }
+            Collections.reverse(sorted);
+            return sorted;
+        }
+
+        private void ensureCandidateSlot() {
+            if (size == entities.length) {
+                int capacity = (int) Math.min(maxCapacity, 2L * size);
+                entities = Arrays.copyOf(entities, capacity);
+                sequences = Arrays.copyOf(sequences, capacity);
+                resizeValues(capacity);
+            }
+        }
+
+        private void offerCandidate(T entity, long sequence) {
+            int candidate = size;
+            entities[candidate] = entity;
+            sequences[candidate] = sequence;
+            if (size < limit) {
+                siftUp(size++);
+                return;
+            }
+            if (compareRanks(candidate, 0) > 0) {
+                swap(candidate, 0);
+                siftDown(0);
+            }
+            entities[candidate] = null;
+        }
+
+        private int compareRanks(int slot, int anotherSlot) {
+            int comparison = compareValues(slot, anotherSlot);
+            return comparison != 0 ? comparison : Long.compare(sequences[anotherSlot], sequences[slot]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (compareRanks(slot, parent) >= 0) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int lowest = slot;
+                int left = 2 * slot + 1;
+                int right = left + 1;
+                if (left < size && compareRanks(left, lowest) < 0) {
+                    lowest = left;
+                }
+                if (right < size && compareRanks(right, lowest) < 0) {
+                    lowest = right;
+                }
+                if (lowest == slot) {
+                    return;
+                }
+                swap(slot, lowest);
+                slot = lowest;
+            }
+        }
+
+        private void swap(int slot, int anotherSlot) {
+            Object entity = entities[slot];
+            entities[slot] = entities[anotherSlot];
+            entities[anotherSlot] = entity;
+            long sequence = sequences[slot];
+            sequences[slot] = sequences[anotherSlot];
+            sequences[anotherSlot] = sequence;
+            swapValues(slot, anotherSlot);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.vendigo.j7group.accessor;
+
+/**
+ * Compiled getter of some entity field. Implementations are generated at runtime for every method called on
+ * a placeholder, so values are read without reflection.
+ * @param <T> - type of entity
+ * @param <V> - type of field
+ * @author Dmytro Marchenko
+ */
+public interface Accessor<T, V> {
+    V get(T entity);
+}
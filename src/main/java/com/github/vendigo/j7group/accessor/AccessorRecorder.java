@@ -0,0 +1,14 @@
+package com.github.vendigo.j7group.accessor;
+
+/**
+ * Callback of generated placeholders, which reports the getter called on the placeholder.
+ * @author Dmytro Marchenko
+ */
+public interface AccessorRecorder {
+    /**
+     * @param accessor - accessor of the called getter
+     * @param returnType - return type of the getter
+     * @return value to be returned from the getter: placeholder of the return type for nested getters, or null
+     */
+    Object record(Accessor<?, ?> accessor, Class<?> returnType);
+}
@@ -0,0 +1,11 @@
+package com.github.vendigo.j7group.accessor;
+
+/**
+ * Getter of some double field which reads value without boxing.
+ * Generated accessors implement it for getters which return double or narrower primitive type.
+ * @param <T> - type of entity
+ * @author Dmytro Marchenko
+ */
+public interface DoubleAccessor<T> {
+    double getDouble(T entity);
+}
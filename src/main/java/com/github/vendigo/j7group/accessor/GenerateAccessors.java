@@ -0,0 +1,21 @@
+package com.github.vendigo.j7group.accessor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks entity class for which accessors and placeholder should be generated at compile time
+ * by the j7group-processor annotation processor. Generated class is found automatically,
+ * so operations on the entity need neither runtime bytecode generation nor reflective method lookup.
+ * Annotated class should be a non-final, non-abstract top level or static nested class
+ * with a non-private default constructor.
+ * @author Dmytro Marchenko
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateAccessors {
+}
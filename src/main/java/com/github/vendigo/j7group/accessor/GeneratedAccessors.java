@@ -0,0 +1,24 @@
+package com.github.vendigo.j7group.accessor;
+
+/**
+ * Accessors and placeholder of some entity class, generated at compile time for classes marked with
+ * {@link GenerateAccessors}. Implementation for entity class {@code com.example.Outer.Person} is
+ * {@code com.example.Outer_Person_J7GroupAccessors}, it is looked up by this name.
+ * @param <T> - type of entity
+ * @author Dmytro Marchenko
+ */
+public interface GeneratedAccessors<T> {
+    String CLASS_NAME_SUFFIX = "_J7GroupAccessors";
+
+    /**
+     * @param getterName - name of getter without parameters
+     * @return accessor calling the getter, or null if there is no such getter
+     */
+    Accessor<T, ?> getAccessor(String getterName);
+
+    /**
+     * @param recorder - recorder which is called from every getter of the placeholder
+     * @return new placeholder of the entity
+     */
+    T createPlaceholder(AccessorRecorder recorder);
+}
@@ -0,0 +1,11 @@
+package com.github.vendigo.j7group.accessor;
+
+/**
+ * Getter of some int field which reads value without boxing.
+ * Generated accessors implement it for getters which return int or narrower primitive type.
+ * @param <T> - type of entity
+ * @author Dmytro Marchenko
+ */
+public interface IntAccessor<T> {
+    int getInt(T entity);
+}
@@ -0,0 +1,95 @@
+package com.github.vendigo.j7group.primitive;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Map with primitive double keys. Keys are compared like {@link Double#equals(Object)} does:
+ * all NaNs are equal to each other, 0.0 and -0.0 are different keys.
+ * @param <V> - type of values
+ * @author Dmytro Marchenko
+ */
+public class DoubleKeyMap<V> {
+    private final LongKeyMap<V> bitsMap;
+
+    public DoubleKeyMap() {
+        bitsMap = new LongKeyMap<>();
+    }
+
+    public DoubleKeyMap(int expectedSize) {
+        bitsMap = new LongKeyMap<>(expectedSize);
+    }
+
+    public int size() {
+        return bitsMap.size();
+    }
+
+    public boolean isEmpty() {
+        return bitsMap.isEmpty();
+    }
+
+    public boolean containsKey(double key) {
+        return bitsMap.containsKey(Double.doubleToLongBits(key));
+    }
+
+    public V get(double key) {
+        return bitsMap.get(Double.doubleToLongBits(key));
+    }
+
+    /**
+     * @return previous value for the key, or null if there was no mapping
+     */
+    public V put(double key, V value) {
+        return bitsMap.put(Double.doubleToLongBits(key), value);
+    }
+
+    /**
+     * @return new array with all keys in no particular order
+     */
+    public double[] keys() {
+        long[] bits = bitsMap.keys();
+        double[] result = new double[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+            result[i] = Double.longBitsToDouble(bits[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return new list with all values in the same order as {@link #keys()}
+     */
+    public List<V> values() {
+        return bitsMap.values();
+    }
+
+    /**
+     * @return new {@link HashMap} with the same mappings and boxed keys
+     */
+    public Map<Double, V> toMap() {
+        Map<Double, V> result = new HashMap<>(size() * 2);
+        double[] allKeys = keys();
+        List<V> allValues = values();
+        for (int i = 0; i < allKeys.length; i++) {
+            result.put(allKeys[i], allValues.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return bitsMap.equals(((DoubleKeyMap<?>) o).bitsMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return bitsMap.hashCode();
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.vendigo.j7group.primitive;
+
+/**
+ * Set of primitive long values. Values are stored unboxed in open addressing table with linear probing,
+ * like keys of {@link LongKeyMap}.
+ * @author Dmytro Marchenko
+ */
+public class LongHashSet {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long FREE_VALUE = 0L;
+
+    private long[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    private boolean hasFreeValue;
+
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(LongKeyMap.tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        if (value == FREE_VALUE) {
+            return hasFreeValue;
+        }
+        return values[indexOf(value)] != FREE_VALUE;
+    }
+
+    /**
+     * @return true if the value was not in the set yet
+     */
+    public boolean add(long value) {
+        if (value == FREE_VALUE) {
+            if (hasFreeValue) {
+                return false;
+            }
+            hasFreeValue = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (values[index] != FREE_VALUE) {
+            return false;
+        }
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(values.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return new array with all values in no particular order
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasFreeValue) {
+            result[i++] = FREE_VALUE;
+        }
+        for (long value : values) {
+            if (value != FREE_VALUE) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(long value) {
+        int index = hash(value) & mask;
+        while (values[index] != FREE_VALUE && values[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (long value : oldValues) {
+            if (value != FREE_VALUE) {
+                values[indexOf(value)] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
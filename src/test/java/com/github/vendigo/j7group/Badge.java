@@ -0,0 +1,20 @@
+package com.github.vendigo.j7group;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Badge of an employee. Counts created instances, to check that placeholders don't run its constructor.
+ */
+public class Badge {
+    static final AtomicInteger created = new AtomicInteger();
+
+    private int number;
+
+    public Badge() {
+        created.incrementAndGet();
+    }
+
+    public int getNumber() {
+        return number;
+    }
+}
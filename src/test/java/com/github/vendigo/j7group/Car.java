@@ -0,0 +1,25 @@
+package com.github.vendigo.j7group;
+
+import com.github.vendigo.j7group.other.Vehicle;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.vendigo.j7group.J7Group.collectToListFrom;
+import static com.github.vendigo.j7group.J7GroupPrepositions.field;
+
+/**
+ * Inherits protected getter from another package. Only subclasses may call it, so placeholder is used here.
+ */
+public class Car extends Vehicle {
+    public Car() {
+    }
+
+    public Car(String plate) {
+        super(plate);
+    }
+
+    static List<String> collectPlates(Collection<Car> cars) {
+        return collectToListFrom(cars, field(Car.class).getPlate());
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Department, optionally nested into parent department.
+ */
+public class Department {
+    private String name;
+    private int floor;
+    private Department parent;
+
+    public Department() {
+    }
+
+    public Department(String name, int floor, Department parent) {
+        this.name = name;
+        this.floor = floor;
+        this.parent = parent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFloor() {
+        return floor;
+    }
+
+    public Department getParent() {
+        return parent;
+    }
+
+    @Override
+    public String toString() {
+        return "Department{" +
+                "name='" + name + '\'' +
+                ", floor=" + floor +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Employee which belongs to a department. Used for nested property paths.
+ */
+public class Employee {
+    private String name;
+    private Department department;
+    private Role role;
+    private Badge badge;
+
+    public Employee() {
+    }
+
+    public Employee(String name, Department department) {
+        this.name = name;
+        this.department = department;
+    }
+
+    public Employee(String name, Department department, Role role) {
+        this.name = name;
+        this.department = department;
+        this.role = role;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Badge getBadge() {
+        return badge;
+    }
+
+    @Override
+    public String toString() {
+        return "Employee{" +
+                "name='" + name + '\'' +
+                ", department=" + department +
+                ", role=" + role +
+                '}';
+    }
+}
@@ -1,15 +1,29 @@
 package com.github.vendigo.j7group;
 
+import com.github.vendigo.j7group.accessor.Accessor;
+import com.github.vendigo.j7group.accessor.IntAccessor;
 import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityException;
 import com.github.vendigo.j7group.key.ambiguity.KeyAmbiguityPolicy;
+import com.github.vendigo.j7group.other.Vehicle;
+import com.github.vendigo.j7group.primitive.DoubleKeyMap;
+import com.github.vendigo.j7group.primitive.IntKeyMap;
+import com.github.vendigo.j7group.primitive.LongKeyMap;
 import org.junit.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static com.github.vendigo.j7group.J7Group.*;
 import static com.github.vendigo.j7group.J7GroupPrepositions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsEmptyCollection.emptyCollectionOf;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.AllOf.allOf;
@@ -142,6 +156,26 @@ public class J7GroupTest {
                 KeyAmbiguityPolicy.FAIL_FAST);
     }
 
+    @Test
+    public void testGroupByAgeInAnotherThread() throws Exception {
+        final List<Map<Integer, Person>> results = new ArrayList<>();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                results.add(group(Arrays.asList(petro, boris), by(Person.class).getAge()));
+                results.add(group(Arrays.asList(petro, boris), by(Person.class).getAge()));
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(1), allOf(
+                hasEntry(17, petro),
+                hasEntry(47, boris)
+        ));
+    }
+
     @Test(expected = IllegalPrepositionException.class)
     public void testGroupByIllegalPreposition() throws Exception {
         group(Arrays.asList(petro, boris, kyle, vinsent, stan), to(Person.class).getAge());
@@ -297,6 +331,275 @@ public class J7GroupTest {
         mapToSets(Arrays.asList(petro, vinsent, stan, boris, kyle), from(Person.class).getAge(), by(Person.class).getName());
     }
 
+    @Test
+    public void testGroupToListsIterableByAge() throws Exception {
+        Map<Integer, List<Person>> result = groupToLists(iterableOf(petro, boris, stan, stan, vinsent, kyle),
+                by(Person.class).getAge());
+
+        assertThat(result, allOf(
+                hasEntry(8, Arrays.asList(stan, stan, kyle)),
+                hasEntry(17, Collections.singletonList(petro)),
+                hasEntry(47, Collections.singletonList(boris)),
+                hasEntry(50, Collections.singletonList(vinsent))
+        ));
+    }
+
+    @Test
+    public void testMapIterableAgeToNameKeepFirst() throws Exception {
+        Map<Integer, String> result = map(iterableOf(petro, vinsent, stan, boris, kyle), from(Person.class).getAge(),
+                to(Person.class).getName(), KeyAmbiguityPolicy.KEEP_FIRST);
+
+        assertThat(result, allOf(
+                hasEntry(17, "Petro"),
+                hasEntry(8, "Stan")
+        ));
+    }
+
+    @Test
+    public void testGrouperToListsByAge() throws Exception {
+        Grouper<Person, Integer, List<Person>> grouper = grouperToLists(by(Person.class).getAge());
+        grouper.accept(petro).accept(stan);
+        grouper.acceptAll(Arrays.asList(boris, kyle).iterator());
+        Map<Integer, List<Person>> result = grouper.finish();
+
+        assertThat(result, allOf(
+                hasEntry(8, Arrays.asList(stan, kyle)),
+                hasEntry(17, Collections.singletonList(petro)),
+                hasEntry(47, Collections.singletonList(boris))
+        ));
+    }
+
+    @Test(expected = KeyAmbiguityException.class)
+    public void testGrouperFailFast() throws Exception {
+        Grouper<Person, Integer, Person> grouper = grouper(by(Person.class).getAge(), KeyAmbiguityPolicy.FAIL_FAST);
+        grouper.acceptAll(Arrays.asList(petro, stan, kyle));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGrouperAcceptAfterFinish() throws Exception {
+        Grouper<Person, Integer, Person> grouper = grouper(by(Person.class).getAge());
+        grouper.accept(petro).finish();
+        grouper.accept(stan);
+    }
+
+    @Test
+    public void testMapperToSetsAgeToName() throws Exception {
+        Grouper<Person, Integer, Set<String>> mapper = mapperToSets(from(Person.class).getAge(),
+                to(Person.class).getName());
+        Map<Integer, Set<String>> result = mapper.acceptAll(Arrays.asList(petro, stan, stan, kyle)).finish();
+
+        assertThat(result, allOf(
+                hasEntry(17, TestCollections.setOf("Petro")),
+                hasEntry(8, TestCollections.setOf("Stan", "Kyle"))
+        ));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testMapperIllegalPreposition() throws Exception {
+        mapper(by(Person.class).getAge(), to(Person.class).getName());
+    }
+
+    @Test
+    public void testLiveIndexBySurname() throws Exception {
+        LiveIndex<String, Person> index = liveIndex(Arrays.asList(petro, boris, stan), by(Person.class).getSurname());
+        Person randy = new Person("Randy", "Marsh", 45);
+        index.add(randy);
+        index.remove(boris);
+
+        assertThat(index.size(), is(3));
+        assertThat(index.keysCount(), is(2));
+        assertThat(index.get("Marsh"), is(TestCollections.setOf(stan, randy)));
+        assertThat(index.get("Britva"), emptyCollectionOf(Person.class));
+        assertThat(index.containsKey("Britva"), is(false));
+    }
+
+    @Test
+    public void testLiveIndexViewFollowsRemoveThenAdd() throws Exception {
+        LiveIndex<String, Person> index = liveIndex(Arrays.asList(petro, stan), by(Person.class).getSurname());
+        Set<Person> marshes = index.get("Marsh");
+        Set<Person> broflovskis = index.get("Broflovski");
+        index.remove(stan);
+        index.add(stan);
+        index.add(kyle);
+
+        assertThat(marshes, contains(stan));
+        assertThat(broflovskis, contains(kyle));
+        assertThat(broflovskis.contains(kyle), is(true));
+    }
+
+    @Test
+    public void testLiveIndexUpdate() throws Exception {
+        MutablePerson first = new MutablePerson("Kenny", "McCormick", 8);
+        MutablePerson second = new MutablePerson("Eric", "Cartman", 9);
+        LiveIndex<String, MutablePerson> index = liveIndex(Arrays.asList(first, second),
+                by(MutablePerson.class).getSurname());
+        second.setSurname("McCormick");
+        index.update(second);
+        first.setSurname("Cartman");
+        index.update(first);
+
+        assertThat(index.get("McCormick"), is(TestCollections.setOf(second)));
+        assertThat(index.get("Cartman"), is(TestCollections.setOf(first)));
+        assertThat(index.remove(second), is(true));
+        assertThat(index.containsKey("McCormick"), is(false));
+    }
+
+    @Test
+    public void testLiveIndexUpdateWithHashCodeOfGroupingField() throws Exception {
+        MutablePerson kenny = new ValueMutablePerson("Kenny", "McCormick", 8);
+        MutablePerson eric = new ValueMutablePerson("Eric", "Cartman", 9);
+        LiveIndex<String, MutablePerson> index = liveIndex(Arrays.asList(kenny, eric),
+                by(MutablePerson.class).getSurname());
+        eric.setSurname("McCormick");
+        index.update(eric);
+
+        assertThat(index.size(), is(2));
+        assertThat(index.containsKey("Cartman"), is(false));
+        assertThat(index.get("McCormick"), hasSize(2));
+        assertThat(index.remove(eric), is(true));
+        assertThat(index.get("McCormick"), contains(kenny));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testLiveIndexIllegalPreposition() throws Exception {
+        liveIndex(Arrays.asList(petro, boris, stan), field(Person.class).getSurname());
+    }
+
+    @Test
+    public void testParallelGroupByAgeKeepFirst() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        Map<Integer, Person> result = parallelGroup(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST);
+
+        assertThat(result, is(group(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST)));
+    }
+
+    @Test
+    public void testParallelGroupByAgeKeepLast() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        Map<Integer, Person> result = parallelGroup(persons, by(Person.class).getAge());
+
+        assertThat(result, is(group(persons, by(Person.class).getAge())));
+    }
+
+    @Test(expected = KeyAmbiguityException.class)
+    public void testParallelGroupFailFastAcrossPartitions() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        persons.add(persons.get(0));
+        parallelGroup(persons, by(Person.class).getName(), KeyAmbiguityPolicy.FAIL_FAST);
+    }
+
+    @Test
+    public void testParallelGroupToListsKeepsOrder() throws Exception {
+        Set<Person> persons = new LinkedHashSet<>(manyPersons(100000));
+        Map<Integer, List<Person>> result = parallelGroupToLists(persons, by(Person.class).getAge());
+
+        assertThat(result, is(groupToLists(persons, by(Person.class).getAge())));
+    }
+
+    @Test
+    public void testParallelMapToSetsAgeToName() throws Exception {
+        Map<Integer, Set<String>> result = parallelMapToSets(Arrays.asList(petro, vinsent, stan, stan, boris, kyle),
+                from(Person.class).getAge(),
+                to(Person.class).getName());
+
+        assertThat(result, allOf(
+                hasEntry(17, TestCollections.setOf("Petro")),
+                hasEntry(8, TestCollections.setOf("Stan", "Kyle"))
+        ));
+    }
+
+    @Test
+    public void testParallelMapToListsAgeToName() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        Map<Integer, List<String>> result = parallelMapToLists(persons, from(Person.class).getAge(),
+                to(Person.class).getName());
+
+        assertThat(result, is(mapToLists(persons, from(Person.class).getAge(), to(Person.class).getName())));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testParallelMapIllegalPrepositionTo() throws Exception {
+        parallelMap(manyPersons(100000), from(Person.class).getAge(), by(Person.class).getName());
+    }
+
+    @Test
+    public void testGroupByIntAgeKeepFirst() throws Exception {
+        IntKeyMap<Person> result = groupByInt(Arrays.asList(petro, boris, kyle, vinsent, stan),
+                by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST);
+
+        assertThat(result.size(), is(4));
+        assertThat(result.get(8), is(kyle));
+        assertThat(result.get(50), is(vinsent));
+        assertThat(result.containsKey(9), is(false));
+    }
+
+    @Test(expected = KeyAmbiguityException.class)
+    public void testGroupByIntAgeFailFast() throws Exception {
+        groupByInt(Arrays.asList(petro, boris, kyle, vinsent, stan), by(Person.class).getAge(),
+                KeyAmbiguityPolicy.FAIL_FAST);
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testGroupByIntIllegalPreposition() throws Exception {
+        groupByInt(Arrays.asList(petro, boris, kyle, vinsent, stan), field(Person.class).getAge());
+    }
+
+    @Test
+    public void testGroupToListsByIntAge() throws Exception {
+        IntKeyMap<List<Person>> result = groupToListsByInt(Arrays.asList(petro, boris, stan, stan, vinsent, kyle),
+                by(Person.class).getAge());
+
+        assertThat(result.toMap(), allOf(
+                hasEntry(8, Arrays.asList(stan, stan, kyle)),
+                hasEntry(17, Collections.singletonList(petro)),
+                hasEntry(47, Collections.singletonList(boris)),
+                hasEntry(50, Collections.singletonList(vinsent))
+        ));
+    }
+
+    @Test
+    public void testGroupToListsByIntManyKeys() throws Exception {
+        List<Person> persons = manyPersons(10000);
+        IntKeyMap<List<Person>> result = groupToListsByInt(persons, by(Person.class).getAge());
+
+        assertThat(result.toMap(), is(groupToLists(persons, by(Person.class).getAge())));
+    }
+
+    @Test
+    public void testMapByLongAgeToName() throws Exception {
+        LongKeyMap<String> result = mapByLong(Arrays.asList(petro, vinsent, stan, boris, kyle),
+                from(Person.class).getAge(), to(Person.class).getName());
+
+        assertThat(result.toMap(), allOf(
+                hasEntry(17L, "Petro"),
+                hasEntry(50L, "Vinsent"),
+                hasEntry(47L, "Boris"),
+                hasEntry(8L, "Kyle")
+        ));
+    }
+
+    @Test
+    public void testMapToListsByLongAgeToName() throws Exception {
+        LongKeyMap<List<String>> result = mapToListsByLong(Arrays.asList(petro, stan, stan, kyle),
+                from(Person.class).getAge(), to(Person.class).getName());
+
+        assertThat(result.get(8L), is(Arrays.asList("Stan", "Stan", "Kyle")));
+        assertThat(result.get(17L), is(Collections.singletonList("Petro")));
+    }
+
+    @Test
+    public void testGroupByDoubleAge() throws Exception {
+        DoubleKeyMap<Person> result = groupByDouble(Arrays.asList(petro, boris, kyle, vinsent, stan),
+                by(Person.class).getAge());
+
+        assertThat(result.toMap(), allOf(
+                hasEntry(17.0, petro),
+                hasEntry(47.0, boris),
+                hasEntry(50.0, vinsent),
+                hasEntry(8.0, stan)
+        ));
+    }
+
     @Test
     public void testCollectWhenTrue() throws Exception {
         List<Person> adults = collect(Arrays.asList(petro, vinsent, stan, boris, kyle),
@@ -320,6 +623,36 @@ public class J7GroupTest {
         collect(Arrays.asList(petro, vinsent, stan, boris, kyle), field(Person.class).isAdult());
     }
 
+    @Test
+    public void testPartition() throws Exception {
+        Partition<Person> partition = partition(Arrays.asList(petro, vinsent, stan, boris, kyle),
+                on(Person.class).isAdult());
+
+        assertThat(partition.getMatching(), contains(vinsent, boris));
+        assertThat(partition.getNotMatching(), contains(petro, stan, kyle));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testPartitionIllegalPreposition() throws Exception {
+        partition(Arrays.asList(petro, vinsent, stan, boris, kyle), whenTrue(Person.class).isAdult());
+    }
+
+    @Test
+    public void testPartitionByEnum() throws Exception {
+        Employee kyle = new Employee("Kyle", null, Role.DEVELOPER);
+        Employee stan = new Employee("Stan", null, Role.MANAGER);
+        Employee eric = new Employee("Eric", null, Role.DEVELOPER);
+        Employee kenny = new Employee("Kenny", null, null);
+
+        Map<Role, List<Employee>> partitions = partition(Arrays.asList(kyle, stan, eric, kenny), Role.class,
+                on(Employee.class).getRole());
+
+        assertThat(partitions, instanceOf(EnumMap.class));
+        assertThat(partitions.get(Role.DEVELOPER), contains(kyle, eric));
+        assertThat(partitions.get(Role.MANAGER), contains(stan));
+        assertThat(partitions.get(Role.TESTER), emptyCollectionOf(Employee.class));
+    }
+
     @Test
     public void testRemoveFromWhenTrue() throws Exception {
         List<Person> persons = new ArrayList<>();
@@ -346,4 +679,1022 @@ public class J7GroupTest {
         persons.addAll(Arrays.asList(petro, vinsent, stan, boris, kyle));
         removeFrom(persons, by(Person.class).isAdult());
     }
+
+    @Test
+    public void testGroupCounting() throws Exception {
+        Map<Integer, Long> result = groupCounting(Arrays.asList(petro, vinsent, stan, boris, kyle),
+                by(Person.class).getAge());
+
+        assertThat(result.size(), is(4));
+        assertThat(result.get(8), is(2L));
+        assertThat(result.get(50), is(1L));
+    }
+
+    @Test
+    public void testGroupSumming() throws Exception {
+        Person randy = new Person("Randy", "Marsh", 45);
+        Map<String, Long> result = groupSumming(Arrays.asList(petro, stan, randy, kyle),
+                by(Person.class).getSurname(), of(Person.class).getAge());
+
+        assertThat(result.size(), is(3));
+        assertThat(result.get("Marsh"), is(53L));
+        assertThat(result.get("Broflovski"), is(8L));
+    }
+
+    @Test
+    public void testGroupMinAndMax() throws Exception {
+        Person randy = new Person("Randy", "Marsh", 45);
+        List<Person> persons = Arrays.asList(petro, stan, randy, kyle);
+
+        Map<String, Long> minAges = groupMin(persons, by(Person.class).getSurname(), of(Person.class).getAge());
+        Map<String, Long> maxAges = groupMax(persons, by(Person.class).getSurname(), of(Person.class).getAge());
+        Map<String, String> minNames = groupMinComparable(persons, by(Person.class).getSurname(),
+                of(Person.class).getName());
+
+        assertThat(minAges.get("Marsh"), is(8L));
+        assertThat(maxAges.get("Marsh"), is(45L));
+        assertThat(minNames.get("Marsh"), is("Randy"));
+        assertThat(minNames.get("Pomagai"), is("Petro"));
+    }
+
+    @Test
+    public void testGroupMinAndMaxByPrimitiveKey() throws Exception {
+        Person randy = new Person("Randy", "Marsh", 45);
+        List<Person> persons = Arrays.asList(petro, stan, randy, kyle);
+
+        Map<Boolean, Long> minAges = groupMin(persons, by(Person.class).isAdult(), of(Person.class).getAge());
+        Map<Integer, Long> maxAges = groupMax(persons, by(Person.class).getAge(), of(Person.class).getAge());
+        Map<Integer, String> maxNames = groupMaxComparable(persons, by(Person.class).getAge(),
+                of(Person.class).getName());
+
+        assertThat(minAges.get(false), is(8L));
+        assertThat(minAges.get(true), is(45L));
+        assertThat(maxAges.get(8), is(8L));
+        assertThat(maxNames.get(8), is("Stan"));
+    }
+
+    @Test
+    public void testGroupAveraging() throws Exception {
+        Person randy = new Person("Randy", "Marsh", 45);
+        Map<String, Double> result = groupAveraging(Arrays.asList(petro, stan, randy),
+                by(Person.class).getSurname(), of(Person.class).getAge());
+
+        assertThat(result.get("Marsh"), is(26.5));
+        assertThat(result.get("Pomagai"), is(17.0));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testGroupSummingIllegalPreposition() throws Exception {
+        groupSumming(Arrays.asList(petro, stan), by(Person.class).getSurname(), to(Person.class).getAge());
+    }
+
+    @Test
+    public void testGroupSummingWithWrongPlaceholderOfLeavesNoPrepositions() throws Exception {
+        map(Arrays.asList(petro, stan), from(Person.class).getName(), to(Person.class).getSurname());
+        try {
+            groupSumming(Arrays.asList(petro, stan), by(Person.class).getName(), by(Person.class).getAge());
+            throw new AssertionError("Wrong placeholder was accepted");
+        } catch (IllegalPrepositionException e) {
+            Map<String, String> result = map(Arrays.asList(petro, stan), from(Person.class).getName(),
+                    to(Person.class).getSurname());
+            assertThat(result, hasEntry("Stan", "Marsh"));
+        }
+    }
+
+    @Test
+    public void testGroupToCollections() throws Exception {
+        Map<Integer, Set<Person>> result = groupToCollections(Arrays.asList(kyle, petro, stan),
+                by(Person.class).getAge(), CollectionFactories.<Person>linkedHashSets());
+
+        assertThat(result.size(), is(2));
+        assertThat(result.get(8), instanceOf(LinkedHashSet.class));
+        assertThat(result.get(8), contains(kyle, stan));
+    }
+
+    @Test
+    public void testGroupToListsWithSizeHints() throws Exception {
+        Map<Integer, List<Person>> result = groupToLists(manyPersons(10000), by(Person.class).getAge(), 100, 100);
+
+        assertThat(result.size(), is(100));
+        assertThat(result.get(42), hasSize(100));
+    }
+
+    @Test
+    public void testNegativeSizeHintsAreRejectedUpFront() throws Exception {
+        try {
+            mapToCollections(Arrays.asList(kyle, petro), from(Person.class).getAge(), to(Person.class).getName(),
+                    CollectionFactories.<String>linkedLists(), 2, -1);
+            throw new AssertionError("Negative group size was accepted");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Expected group size should not be negative: -1"));
+        }
+        try {
+            groupToLists(Collections.<Person>emptyList(), by(Person.class).getAge(), -1, 10);
+            throw new AssertionError("Negative number of keys was accepted");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Expected number of keys should not be negative: -1"));
+        }
+
+        assertThat(groupToLists(Arrays.asList(kyle), by(Person.class).getAge(), 0, 0).get(8), contains(kyle));
+    }
+
+    @Test
+    public void testMapToCollections() throws Exception {
+        Map<Integer, List<String>> result = mapToCollections(Arrays.asList(kyle, petro, stan),
+                from(Person.class).getAge(), to(Person.class).getName(), CollectionFactories.<String>linkedLists(),
+                2, 2);
+
+        assertThat(result.get(8), instanceOf(LinkedList.class));
+        assertThat(result.get(8), contains("Kyle", "Stan"));
+        assertThat(result.get(17), contains("Petro"));
+    }
+
+    @Test
+    public void testCompiledGroupQuery() throws Exception {
+        GroupQuery<Person, Integer> byAge = compile(by(Person.class).getAge());
+
+        Map<Integer, List<Person>> lists = byAge.groupToLists(Arrays.asList(petro, stan, kyle));
+        Map<Integer, Person> first = byAge.group(Arrays.asList(petro, stan, kyle), KeyAmbiguityPolicy.KEEP_FIRST);
+        Map<Integer, Long> counts = byAge.groupCounting(Arrays.asList(petro, stan, kyle));
+
+        assertThat(lists.get(8), contains(stan, kyle));
+        assertThat(first.get(8), is(stan));
+        assertThat(counts.get(17), is(1L));
+    }
+
+    @Test
+    public void testCompiledGroupQueryFromManyThreads() throws Exception {
+        final GroupQuery<Person, Integer> byAge = compile(by(Person.class).getAge());
+        final List<Person> persons = manyPersons(10000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<Integer, List<Person>>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Map<Integer, List<Person>>>() {
+                    @Override
+                    public Map<Integer, List<Person>> call() throws Exception {
+                        return byAge.groupToLists(persons);
+                    }
+                }));
+            }
+            for (Future<Map<Integer, List<Person>>> result : results) {
+                assertThat(result.get().size(), is(100));
+                assertThat(result.get().get(42), hasSize(100));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentGrouperToLists() throws Exception {
+        final ConcurrentGrouper<Person, Integer, List<Person>> grouper =
+                concurrentGrouperToLists(by(Person.class).getAge());
+        final List<Person> persons = manyPersons(10000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                final int part = i;
+                producers.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        grouper.acceptAll(persons.subList(part * 2500, (part + 1) * 2500));
+                    }
+                }));
+            }
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Map<Integer, List<Person>> result = grouper.finish();
+
+        assertThat(result.size(), is(100));
+        assertThat(result.get(42), hasSize(100));
+    }
+
+    @Test
+    public void testConcurrentGrouperFailFastIsAtomic() throws Exception {
+        final ConcurrentGrouper<Person, String, Person> grouper =
+                concurrentGrouper(by(Person.class).getSurname(), KeyAmbiguityPolicy.FAIL_FAST);
+        final List<Person> persons = manyPersons(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                producers.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        int failures = 0;
+                        for (Person person : persons) {
+                            try {
+                                grouper.accept(person);
+                            } catch (KeyAmbiguityException e) {
+                                failures++;
+                            }
+                        }
+                        return failures;
+                    }
+                }));
+            }
+            int failures = 0;
+            for (Future<Integer> producer : producers) {
+                failures += producer.get();
+            }
+            assertThat(failures, is(3000));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(grouper.finish().size(), is(1000));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConcurrentGrouperAfterFinish() throws Exception {
+        ConcurrentGrouper<Person, Integer, Set<Person>> grouper = concurrentGrouperToSets(by(Person.class).getAge());
+        grouper.accept(stan).finish();
+        grouper.accept(kyle);
+    }
+
+    @Test
+    public void testCollectToLazyListFrom() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(petro, boris));
+        List<String> names = collectToLazyListFrom(persons, field(Person.class).getName());
+        persons.add(vinsent);
+
+        assertThat(names, instanceOf(RandomAccess.class));
+        assertThat(names, contains("Petro", "Boris", "Vinsent"));
+        assertThat(names.get(1), is("Boris"));
+    }
+
+    @Test
+    public void testCollectToLazyListFromLinkedList() throws Exception {
+        List<String> names = collectToLazyListFrom(new LinkedList<>(Arrays.asList(petro, boris, vinsent)),
+                field(Person.class).getName());
+
+        assertThat(names, not(instanceOf(RandomAccess.class)));
+        assertThat(names, contains("Petro", "Boris", "Vinsent"));
+        assertThat(names.contains("Boris"), is(true));
+    }
+
+    @Test
+    public void testCollectToMemoizedLazyListFrom() throws Exception {
+        MutablePerson kenny = new MutablePerson("Kenny", "McCormick", 8);
+        List<String> surnames = collectToLazyListFrom(Arrays.asList(kenny), field(MutablePerson.class).getSurname(),
+                true);
+
+        assertThat(surnames.get(0), is("McCormick"));
+        kenny.setSurname("Cartman");
+        assertThat(surnames.get(0), is("McCormick"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyListIsReadOnly() throws Exception {
+        List<String> names = collectToLazyListFrom(Arrays.asList(petro, boris), field(Person.class).getName());
+        names.add("Stan");
+    }
+
+    @Test
+    public void testCollectToPrimitiveArrays() throws Exception {
+        List<Person> persons = Arrays.asList(petro, boris, vinsent);
+
+        assertThat(Arrays.equals(collectToIntArray(persons, field(Person.class).getAge()), new int[]{17, 47, 50}),
+                is(true));
+        assertThat(Arrays.equals(collectToLongArray(persons, field(Person.class).getAge()), new long[]{17, 47, 50}),
+                is(true));
+        assertThat(Arrays.equals(collectToDoubleArray(persons, field(Person.class).getAge()),
+                new double[]{17, 47, 50}), is(true));
+    }
+
+    @Test
+    public void testProjectColumns() throws Exception {
+        ColumnProjection<Person> projection = columns(Person.class)
+                .intColumn(field(Person.class).getAge())
+                .doubleColumn(field(Person.class).getAge());
+        ColumnBatch batch = projection.project(Arrays.asList(petro, stan));
+
+        assertThat(batch.size(), is(2));
+        assertThat(batch.columnsCount(), is(2));
+        assertThat(Arrays.equals(batch.getIntColumn(0), new int[]{17, 8}), is(true));
+        assertThat(Arrays.equals(batch.getDoubleColumn(1), new double[]{17, 8}), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnOfWrongType() throws Exception {
+        columns(Person.class).intColumn(field(Person.class).getAge()).project(Arrays.asList(petro)).getLongColumn(0);
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testCollectToIntArrayIllegalPreposition() throws Exception {
+        collectToIntArray(Arrays.asList(petro), by(Person.class).getAge());
+    }
+
+    @Test
+    public void testGroupToSortedIndex() throws Exception {
+        SortedIndex<Integer, Person> index = groupToSortedIndex(Arrays.asList(vinsent, stan, petro, boris, kyle),
+                by(Person.class).getAge());
+
+        assertThat(index.size(), is(5));
+        assertThat(index.keys(), contains(8, 17, 47, 50));
+        assertThat(index.get(8), contains(stan, kyle));
+        assertThat(index.get(9), hasSize(0));
+        assertThat(index.range(10, 47), contains(petro, boris));
+        assertThat(index.range(17, false, 50, false), contains(boris));
+        assertThat(index.range(60, 70), hasSize(0));
+    }
+
+    @Test
+    public void testGroupToSortedIndexKeepsSourceOrderWithinGroups() throws Exception {
+        List<Person> persons = manyPersons(10000);
+        SortedIndex<Integer, Person> index = groupToSortedIndex(persons, by(Person.class).getAge());
+
+        assertThat(index.keysCount(), is(100));
+        assertThat(index.get(42), hasSize(100));
+        assertThat(index.get(42).get(0), is(persons.get(42)));
+        assertThat(index.get(42).get(99), is(persons.get(9942)));
+        assertThat(index.range(0, 9), hasSize(1000));
+    }
+
+    @Test
+    public void testGroupToSortedIndexWithComparator() throws Exception {
+        SortedIndex<String, Person> index = groupToSortedIndex(Arrays.asList(petro, stan, kyle),
+                by(Person.class).getName(), Collections.reverseOrder());
+
+        assertThat(index.keys(), contains("Stan", "Petro", "Kyle"));
+        assertThat(index.range("Stan", "Petro"), contains(stan, petro));
+    }
+
+    @Test
+    public void testJoin() throws Exception {
+        MutablePerson shelly = new MutablePerson("Shelly", "Marsh", 14);
+        MutablePerson ike = new MutablePerson("Ike", "Broflovski", 3);
+        MutablePerson kenny = new MutablePerson("Kenny", "McCormick", 8);
+
+        List<Joined<Person, MutablePerson>> result = join(Arrays.asList(stan, kyle, petro),
+                by(Person.class).getSurname(), Arrays.asList(shelly, ike, kenny), by(MutablePerson.class).getSurname());
+
+        assertThat(result, hasSize(2));
+        assertThat(result, hasItems(new Joined<>(stan, shelly), new Joined<>(kyle, ike)));
+    }
+
+    @Test
+    public void testJoinBuildsOnSmallerSide() throws Exception {
+        MutablePerson shelly = new MutablePerson("Shelly", "Marsh", 14);
+        Person randy = new Person("Randy", "Marsh", 45);
+
+        List<Joined<Person, MutablePerson>> result = join(Arrays.asList(stan, kyle, petro, randy),
+                by(Person.class).getSurname(), Collections.singletonList(shelly), by(MutablePerson.class).getSurname());
+
+        assertThat(result, contains(new Joined<>(stan, shelly), new Joined<>(randy, shelly)));
+    }
+
+    @Test
+    public void testJoinByInt() throws Exception {
+        MutablePerson kenny = new MutablePerson("Kenny", "McCormick", 8);
+        final List<String> pairs = new ArrayList<>();
+
+        join(Arrays.asList(stan, petro, kyle), by(Person.class).getAge(), Arrays.asList(kenny),
+                by(MutablePerson.class).getAge(), new JoinConsumer<Person, MutablePerson>() {
+                    @Override
+                    public void accept(Person left, MutablePerson right) {
+                        pairs.add(left.getName() + "-" + right.getName());
+                    }
+                });
+
+        assertThat(pairs, contains("Stan-Kenny", "Kyle-Kenny"));
+    }
+
+    @Test
+    public void testJoinIntKeyWithLongKey() throws Exception {
+        Ticket cartoon = new Ticket("Cartoon", 8);
+        Ticket thriller = new Ticket("Thriller", 17);
+        Ticket documentary = new Ticket("Documentary", 45);
+
+        List<Joined<Person, Ticket>> result = join(Arrays.asList(stan, petro, kyle), by(Person.class).getAge(),
+                Arrays.asList(cartoon, thriller, documentary), by(Ticket.class).getMinAge());
+
+        assertThat(result, contains(new Joined<>(stan, cartoon), new Joined<>(kyle, cartoon),
+                new Joined<>(petro, thriller)));
+    }
+
+    @Test
+    public void testLeftJoinAndSemiJoin() throws Exception {
+        MutablePerson shelly = new MutablePerson("Shelly", "Marsh", 14);
+        MutablePerson kenny = new MutablePerson("Kenny", "McCormick", 8);
+        List<Person> persons = Arrays.asList(stan, petro);
+        List<MutablePerson> others = Arrays.asList(shelly, kenny);
+
+        List<Joined<Person, MutablePerson>> leftJoined = leftJoin(persons, by(Person.class).getSurname(), others,
+                by(MutablePerson.class).getSurname());
+        List<Person> semiJoined = semiJoin(persons, by(Person.class).getSurname(), others,
+                by(MutablePerson.class).getSurname());
+
+        assertThat(leftJoined, contains(new Joined<>(stan, shelly), new Joined<Person, MutablePerson>(petro, null)));
+        assertThat(semiJoined, contains(stan));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testJoinIllegalPreposition() throws Exception {
+        join(Arrays.asList(stan), by(Person.class).getSurname(), Arrays.asList(kyle), field(Person.class).getSurname());
+    }
+
+    @Test
+    public void testRemoveFromLargeArrayList() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        removeFrom(persons, whenFalse(Person.class).isAdult());
+
+        assertThat(persons, hasSize(82000));
+        assertThat(persons.get(0).getAge(), is(18));
+        assertThat(persons.get(81999).getAge(), is(99));
+    }
+
+    @Test
+    public void testRemoveFromFixedSizeListLeavesItUnchanged() throws Exception {
+        List<Person> persons = Arrays.asList(vinsent, petro, boris, stan);
+        try {
+            removeFrom(persons, whenFalse(Person.class).isAdult());
+        } catch (UnsupportedOperationException e) {
+            assertThat(persons, contains(vinsent, petro, boris, stan));
+            return;
+        }
+        throw new AssertionError("Fixed size list was resized");
+    }
+
+    @Test
+    public void testProtectedGetterFromAnotherPackageUsesReflectiveAccessor() throws Exception {
+        List<String> plates = Car.collectPlates(Arrays.asList(new Car("AA1234"), new Car("BB5678")));
+
+        assertThat(AccessorHelper.getAccessor(Car.class, Vehicle.class.getDeclaredMethod("getPlate")),
+                instanceOf(ReflectiveAccessor.class));
+        assertThat(plates, contains("AA1234", "BB5678"));
+    }
+
+    @Test
+    public void testFailingGetterGivesNullValue() throws Exception {
+        Person failingPerson = new Person("Failing", "Person", 30) {
+            @Override
+            public String getSurname() {
+                throw new IllegalStateException("Not available");
+            }
+        };
+        Car failingCar = new Car("CC0000") {
+            @Override
+            protected String getPlate() {
+                throw new IllegalStateException("Not available");
+            }
+        };
+
+        List<String> surnames = collectToListFrom(Arrays.asList(stan, failingPerson),
+                field(Person.class).getSurname());
+        List<String> plates = Car.collectPlates(Arrays.asList(new Car("AA1234"), failingCar));
+
+        assertThat(surnames, contains("Marsh", null));
+        assertThat(plates, contains("AA1234", null));
+    }
+
+    @Test
+    public void testRemoveFromWithFailingPredicateLeavesListUnchanged() throws Exception {
+        Person failing = new Person("Failing", "Getter", 30) {
+            @Override
+            public boolean isAdult() {
+                throw new IllegalStateException("Not available");
+            }
+        };
+        List<Person> persons = new ArrayList<>(Arrays.asList(petro, vinsent, stan, failing, boris));
+        try {
+            removeFrom(persons, whenTrue(Person.class).isAdult());
+        } catch (RuntimeException e) {
+            assertThat(persons, contains(petro, vinsent, stan, failing, boris));
+            return;
+        }
+        throw new AssertionError("Failing predicate was ignored");
+    }
+
+    @Test
+    public void testRetainIn() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(petro, vinsent, stan, boris, kyle));
+        retainIn(persons, whenTrue(Person.class).isAdult());
+
+        assertThat(persons, contains(vinsent, boris));
+    }
+
+    @Test
+    public void testRetainInLinkedList() throws Exception {
+        List<Person> persons = new LinkedList<>(Arrays.asList(petro, vinsent, stan, boris, kyle));
+        retainIn(persons, whenFalse(Person.class).isAdult());
+
+        assertThat(persons, contains(petro, stan, kyle));
+    }
+
+    @Test
+    public void testFindDuplicates() throws Exception {
+        Map<Integer, List<Person>> result = findDuplicates(Arrays.asList(petro, stan, boris, kyle),
+                field(Person.class).getAge());
+
+        assertThat(result.size(), is(1));
+        assertThat(result.get(8), contains(stan, kyle));
+    }
+
+    @Test
+    public void testFindDuplicatesWhenAllUnique() throws Exception {
+        Map<String, List<Person>> result = findDuplicates(new HashSet<>(Arrays.asList(petro, stan, boris, kyle)),
+                field(Person.class).getName());
+
+        assertThat(result.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testFindDuplicatesWithEqualHashCodes() throws Exception {
+        Person aa = new Person("Aa", "Aa", 1);
+        Person bb = new Person("BB", "BB", 2);
+        Person anotherAa = new Person("Aa", "Aa", 3);
+
+        Map<String, Integer> result = countDuplicates(Arrays.asList(aa, bb, anotherAa), field(Person.class).getName());
+
+        assertThat("Aa".hashCode(), is("BB".hashCode()));
+        assertThat(result.size(), is(1));
+        assertThat(result.get("Aa"), is(2));
+    }
+
+    @Test
+    public void testParallelFindDuplicates() throws Exception {
+        List<Person> persons = manyPersons(100000);
+        Map<String, List<Person>> result = parallelFindDuplicates(persons, field(Person.class).getSurname());
+
+        assertThat(result.size(), is(1000));
+        assertThat(result.get("Surname7"), hasSize(100));
+        assertThat(result.get("Surname7").get(0), is(persons.get(7)));
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        final List<OperationEvent> events = new ArrayList<>();
+        OperationListener listener = new OperationListener() {
+            @Override
+            public void operationFinished(OperationEvent event) {
+                events.add(event);
+            }
+        };
+        J7GroupMetrics.getCounters().reset();
+        J7GroupMetrics.addListener(listener);
+        J7GroupMetrics.enable();
+        try {
+            groupToLists(Arrays.asList(petro, stan, kyle), by(Person.class).getAge());
+            collectToListFrom(Arrays.asList(petro, stan), field(Person.class).getName());
+            groupToListsByInt(Arrays.asList(petro, stan, kyle), by(Person.class).getAge());
+            semiJoin(Arrays.asList(petro, stan), by(Person.class).getAge(), Arrays.asList(kyle),
+                    by(Person.class).getAge());
+        } finally {
+            J7GroupMetrics.disable();
+            J7GroupMetrics.removeListener(listener);
+        }
+        groupToLists(Arrays.asList(petro, stan, kyle), by(Person.class).getAge());
+
+        assertThat(events, hasSize(4));
+        assertThat(events.get(0).getOperation(), is("groupToLists"));
+        assertThat(events.get(0).getEntityClass(), equalTo((Object) Person.class));
+        assertThat(events.get(0).getElementsCount(), is(3L));
+        assertThat(events.get(0).getKeysCount(), is(2));
+        assertThat(events.get(1).getOperation(), is("collectToListFrom"));
+        assertThat(events.get(2).getOperation(), is("groupToListsByInt"));
+        assertThat(events.get(2).getKeysCount(), is(2));
+        assertThat(events.get(3).getOperation(), is("semiJoin"));
+        assertThat(events.get(3).getElementsCount(), is(3L));
+        assertThat(J7GroupMetrics.getCounters().getOperationsCount(), is(4L));
+        assertThat(J7GroupMetrics.getCounters().getElementsProcessed(), is(11L));
+        assertThat(J7GroupMetrics.getCounters().getAccessorCacheHits()
+                + J7GroupMetrics.getCounters().getAccessorCacheMisses(), is(5L));
+    }
+
+    @Test
+    public void testMetricsOfFilteringAndIndexing() throws Exception {
+        final List<String> operations = new ArrayList<>();
+        OperationListener listener = new OperationListener() {
+            @Override
+            public void operationFinished(OperationEvent event) {
+                operations.add(event.getOperation());
+            }
+        };
+        List<Person> persons = new ArrayList<>(Arrays.asList(petro, stan, kyle, boris));
+        J7GroupMetrics.addListener(listener);
+        J7GroupMetrics.enable();
+        try {
+            isUniqueIn(persons, field(Person.class).getAge());
+            collect(persons, whenTrue(Person.class).isAdult());
+            groupToSortedIndex(persons, by(Person.class).getAge());
+            columns(Person.class).intColumn(field(Person.class).getAge()).project(persons);
+            retainIn(persons, whenFalse(Person.class).isAdult());
+            removeFrom(persons, whenTrue(Person.class).isAdult());
+        } finally {
+            J7GroupMetrics.disable();
+            J7GroupMetrics.removeListener(listener);
+        }
+
+        assertThat(operations, contains("isUniqueIn", "collect", "groupToSortedIndex", "project", "retainIn",
+                "removeFrom"));
+    }
+
+    @Test
+    public void testMetricsMBean() throws Exception {
+        J7GroupMetrics.registerMBean();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.github.vendigo.j7group:type=Metrics");
+
+            assertThat(server.isRegistered(name), is(true));
+            assertThat((Boolean) server.getAttribute(name, "Enabled"), is(false));
+        } finally {
+            J7GroupMetrics.unregisterMBean();
+        }
+    }
+
+    @Test
+    public void testGroupByNestedProperty() {
+        Department it = new Department("IT", 3, null);
+        Department sales = new Department("Sales", 1, null);
+        Employee kyle = new Employee("Kyle", it);
+        Employee stan = new Employee("Stan", sales);
+        Employee eric = new Employee("Eric", it);
+
+        Map<String, List<Employee>> groups = groupToLists(Arrays.asList(kyle, stan, eric),
+                by(Employee.class).getDepartment().getName());
+
+        assertThat(groups.size(), is(2));
+        assertThat(groups.get("IT"), contains(kyle, eric));
+        assertThat(groups.get("Sales"), contains(stan));
+    }
+
+    @Test
+    public void testNestedPropertyWithNullIntermediate() {
+        Department board = new Department("Board", 5, null);
+        Department it = new Department("IT", 3, board);
+        Employee kyle = new Employee("Kyle", it);
+        Employee stan = new Employee("Stan", new Department("Sales", 1, null));
+        Employee kenny = new Employee("Kenny", null);
+
+        List<String> parents = collectToListFrom(Arrays.asList(kyle, stan, kenny),
+                field(Employee.class).getDepartment().getParent().getName());
+        Map<String, List<Employee>> groups = groupToLists(Arrays.asList(kyle, stan, kenny),
+                by(Employee.class).getDepartment().getParent().getName());
+
+        assertThat(parents, contains("Board", null, null));
+        assertThat(groups.get(null), contains(stan, kenny));
+    }
+
+    @Test
+    public void testPlaceholdersDontRunConstructorsOfReturnTypes() {
+        Employee kyle = new Employee("Kyle", null);
+        Employee stan = new Employee("Stan", null);
+        int createdBefore = Badge.created.get();
+
+        Map<Badge, List<Employee>> byBadge = groupToLists(Arrays.asList(kyle, stan), by(Employee.class).getBadge());
+        Map<Integer, List<Employee>> byNumber = groupToLists(Arrays.asList(kyle, stan),
+                by(Employee.class).getBadge().getNumber());
+
+        assertThat(Badge.created.get(), is(createdBefore));
+        assertThat(byBadge.get(null), contains(kyle, stan));
+        assertThat(byNumber.get(null), contains(kyle, stan));
+    }
+
+    @Test
+    public void testNestedPrimitiveProperty() {
+        Employee kyle = new Employee("Kyle", new Department("IT", 3, null));
+        Employee stan = new Employee("Stan", new Department("Sales", 1, null));
+        Employee kenny = new Employee("Kenny", null);
+
+        int[] floors = collectToIntArray(Arrays.asList(kyle, stan, kenny),
+                field(Employee.class).getDepartment().getFloor());
+        Map<Integer, List<Employee>> groups = groupToLists(Arrays.asList(kyle, stan),
+                by(Employee.class).getDepartment().getFloor());
+
+        assertThat(floors, equalTo(new int[]{3, 1, 0}));
+        assertThat(groups.get(3), contains(kyle));
+    }
+
+    @Test
+    public void testNestedPropertyInBothSlots() {
+        Employee kyle = new Employee("Kyle", new Department("IT", 3, null));
+        Employee stan = new Employee("Stan", new Department("Sales", 1, null));
+
+        Map<String, Integer> floors = map(Arrays.asList(kyle, stan), from(Employee.class).getName(),
+                to(Employee.class).getDepartment().getFloor());
+
+        assertThat(floors, allOf(hasEntry("Kyle", 3), hasEntry("Stan", 1)));
+    }
+
+    @Test
+    public void testOnePass() {
+        List<Person> persons = Arrays.asList(petro, vinsent, stan, boris, kyle);
+
+        OnePassResult result = onePass(persons)
+                .groupToLists(by(Person.class).isAdult())
+                .group(by(Person.class).getName())
+                .map(from(Person.class).getName(), to(Person.class).getAge())
+                .collectToSet(field(Person.class).getName())
+                .isUnique(field(Person.class).getName())
+                .isUnique(field(Person.class).isAdult())
+                .run();
+
+        Map<Boolean, List<Person>> byAdult = result.get(0);
+        Map<String, Person> byName = result.get(1);
+        Map<String, Integer> ages = result.get(2);
+        Set<String> names = result.get(3);
+        assertThat(result.size(), is(6));
+        assertThat(byAdult, equalTo(groupToLists(persons, by(Person.class).isAdult())));
+        assertThat(byName, equalTo(group(persons, by(Person.class).getName())));
+        assertThat(ages, equalTo(map(persons, from(Person.class).getName(), to(Person.class).getAge())));
+        assertThat(names, equalTo(collectToSetFrom(persons, field(Person.class).getName())));
+        assertThat(result.<Boolean>get(4), is(true));
+        assertThat(result.<Boolean>get(5), is(false));
+    }
+
+    @Test
+    public void testOnePassCanBeRunAgain() {
+        List<Person> persons = new ArrayList<>(Arrays.asList(petro, vinsent));
+        OnePass<Person> pass = onePass(persons).collectToList(field(Person.class).getAge());
+
+        assertThat(pass.run().<List<Integer>>get(0), contains(17, 50));
+        persons.add(stan);
+        assertThat(pass.run().<List<Integer>>get(0), contains(17, 50, 8));
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testOnePassIllegalPreposition() {
+        onePass(Arrays.asList(petro, vinsent)).groupToLists(field(Person.class).getAge());
+    }
+
+    @Test
+    public void testGroupTopN() {
+        Person randy = new Person("Randy", "Marsh", 45);
+        Person shelly = new Person("Shelly", "Marsh", 12);
+        Person sharon = new Person("Sharon", "Marsh", 45);
+        Map<String, List<Person>> oldest = groupTopN(Arrays.asList(stan, randy, shelly, sharon, kyle),
+                by(Person.class).getSurname(), orderBy(Person.class).getAge(), 3);
+
+        assertThat(oldest.get("Marsh"), contains(randy, sharon, shelly));
+        assertThat(oldest.get("Broflovski"), contains(kyle));
+    }
+
+    @Test
+    public void testGroupTopNByComparable() {
+        Map<Boolean, List<Person>> lastNames = groupTopNComparable(Arrays.asList(petro, vinsent, stan, boris, kyle),
+                by(Person.class).isAdult(), orderBy(Person.class).getName(), 2);
+
+        assertThat(lastNames.get(true), contains(vinsent, boris));
+        assertThat(lastNames.get(false), contains(stan, petro));
+    }
+
+    @Test
+    public void testGroupTopNByPrimitiveKey() {
+        Person randy = new Person("Randy", "Marsh", 45);
+        Map<Boolean, List<Person>> oldest = groupTopN(Arrays.asList(petro, vinsent, stan, randy, boris, kyle),
+                by(Person.class).isAdult(), orderBy(Person.class).getAge(), 2);
+        Map<Integer, List<Person>> lastNames = groupTopNComparable(Arrays.asList(petro, stan, kyle),
+                by(Person.class).getAge(), orderBy(Person.class).getName(), 1);
+
+        assertThat(oldest.get(true), contains(vinsent, boris));
+        assertThat(oldest.get(false), contains(petro, stan));
+        assertThat(lastNames.get(8), contains(stan));
+    }
+
+    @Test
+    public void testGroupTopNWithLimitBiggerThanGroups() {
+        List<Person> persons = manyPersons(5000);
+        Map<String, List<Person>> all = groupTopN(persons, by(Person.class).getSurname(),
+                orderBy(Person.class).getAge(), Integer.MAX_VALUE);
+        Map<String, List<Person>> groups = groupToLists(persons, by(Person.class).getSurname());
+
+        assertThat(all.keySet(), equalTo(groups.keySet()));
+        for (Map.Entry<String, List<Person>> group : groups.entrySet()) {
+            assertThat(all.get(group.getKey()), hasSize(group.getValue().size()));
+        }
+    }
+
+    @Test
+    public void testGroupTopNMatchesSortedGroups() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(new Person("Name" + i, "Surname" + i % 100, random.nextInt(80)));
+        }
+
+        Map<String, List<Person>> top = groupTopN(persons, by(Person.class).getSurname(),
+                orderBy(Person.class).getAge(), 5);
+        Map<String, List<Person>> groups = groupToLists(persons, by(Person.class).getSurname());
+
+        assertThat(top.keySet(), equalTo(groups.keySet()));
+        for (Map.Entry<String, List<Person>> group : groups.entrySet()) {
+            List<Person> sorted = new ArrayList<>(group.getValue());
+            Collections.sort(sorted, new Comparator<Person>() {
+                @Override
+                public int compare(Person first, Person second) {
+                    return Integer.compare(second.getAge(), first.getAge());
+                }
+            });
+            assertThat(top.get(group.getKey()), equalTo(sorted.subList(0, 5)));
+        }
+    }
+
+    @Test(expected = IllegalPrepositionException.class)
+    public void testGroupTopNIllegalPreposition() {
+        groupTopN(Arrays.asList(petro, vinsent), by(Person.class).getSurname(), of(Person.class).getAge(), 3);
+    }
+
+    @Test
+    public void testGroupTopNWithWrongPlaceholderOrderByLeavesNoPrepositions() {
+        map(Arrays.asList(petro, stan), from(Person.class).getName(), to(Person.class).getSurname());
+        try {
+            groupTopN(Arrays.asList(petro, stan), by(Person.class).getName(), by(Person.class).getAge(), 0);
+            throw new AssertionError("Wrong placeholder was accepted");
+        } catch (IllegalPrepositionException e) {
+            Map<String, String> result = map(Arrays.asList(petro, stan), from(Person.class).getName(),
+                    to(Person.class).getSurname());
+            assertThat(result, hasEntry("Stan", "Marsh"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGroupTopNNonPositiveN() {
+        groupTopN(Arrays.asList(petro, vinsent), by(Person.class).getSurname(), orderBy(Person.class).getAge(), 0);
+    }
+
+    @Test
+    public void testDistinctByKeepFirst() {
+        Person randy = new Person("Randy", "Marsh", 45);
+        List<Person> distinct = distinctBy(Arrays.asList(stan, kyle, randy, petro, boris),
+                by(Person.class).getSurname());
+
+        assertThat(distinct, contains(stan, kyle, petro, boris));
+    }
+
+    @Test
+    public void testDistinctByKeepLast() {
+        Person randy = new Person("Randy", "Marsh", 45);
+        List<Person> distinct = distinctBy(new LinkedList<>(Arrays.asList(stan, kyle, randy, petro)),
+                by(Person.class).getSurname(), KeyAmbiguityPolicy.KEEP_LAST);
+
+        assertThat(distinct, contains(kyle, randy, petro));
+    }
+
+    @Test(expected = KeyAmbiguityException.class)
+    public void testDistinctByFailFast() {
+        distinctBy(Arrays.asList(stan, kyle, petro), by(Person.class).getAge(), KeyAmbiguityPolicy.FAIL_FAST);
+    }
+
+    @Test
+    public void testDistinctByInt() {
+        List<Person> persons = Arrays.asList(stan, kyle, petro, boris, vinsent);
+
+        assertThat(distinctByInt(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST),
+                contains(stan, petro, boris, vinsent));
+        assertThat(distinctByInt(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_LAST),
+                contains(kyle, petro, boris, vinsent));
+    }
+
+    @Test
+    public void testDistinctByLongAndDouble() {
+        Ticket free = new Ticket("Free", 0);
+        Ticket cartoon = new Ticket("Cartoon", 8);
+        Ticket anotherFree = new Ticket("Another free", 0);
+        Ticket anotherCartoon = new Ticket("Another cartoon", 8);
+        List<Ticket> tickets = Arrays.asList(free, cartoon, anotherFree, anotherCartoon);
+        List<Person> persons = Arrays.asList(stan, kyle, petro, boris, vinsent);
+
+        assertThat(distinctByLong(tickets, by(Ticket.class).getMinAge(), KeyAmbiguityPolicy.KEEP_FIRST),
+                contains(free, cartoon));
+        assertThat(distinctByLong(tickets, by(Ticket.class).getMinAge(), KeyAmbiguityPolicy.KEEP_LAST),
+                contains(anotherFree, anotherCartoon));
+        assertThat(distinctByDouble(persons, by(Person.class).getAge(), KeyAmbiguityPolicy.KEEP_FIRST),
+                contains(stan, petro, boris, vinsent));
+    }
+
+    @Test(expected = KeyAmbiguityException.class)
+    public void testDistinctByLongFailFast() {
+        distinctByLong(Arrays.asList(new Ticket("Free", 0), new Ticket("Another free", 0)),
+                by(Ticket.class).getMinAge(), KeyAmbiguityPolicy.FAIL_FAST);
+    }
+
+    @Test
+    public void testDistinctIterator() {
+        Iterator<Person> iterator = distinctIterator(iterableOf(stan, kyle, petro, boris), by(Person.class).getAge());
+
+        assertThat(iterator.next(), is(stan));
+        assertThat(iterator.next(), is(petro));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(boris));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void testFunctionalGroup() {
+        Accessor<Person, String> surname = new Accessor<Person, String>() {
+            @Override
+            public String get(Person person) {
+                return person.getSurname();
+            }
+        };
+        List<Person> persons = Arrays.asList(stan, kyle, petro, new Person("Randy", "Marsh", 45));
+
+        assertThat(J7GroupFunctional.groupToLists(persons, surname),
+                equalTo(groupToLists(persons, by(Person.class).getSurname())));
+        assertThat(J7GroupFunctional.groupCounting(persons, surname).get("Marsh"), is(2L));
+        assertThat(J7GroupFunctional.compile(surname).groupToLists(persons).get("Broflovski"), contains(kyle));
+    }
+
+    @Test
+    public void testFunctionalApiOnFinalClass() {
+        IntAccessor<String> length = new IntAccessor<String>() {
+            @Override
+            public int getInt(String value) {
+                return value.length();
+            }
+        };
+        Accessor<String, Boolean> isEmpty = new Accessor<String, Boolean>() {
+            @Override
+            public Boolean get(String value) {
+                return value.isEmpty();
+            }
+        };
+        List<String> words = Arrays.asList("one", "two", "three", "");
+
+        assertThat(J7GroupFunctional.groupToListsByInt(words, length).get(3), contains("one", "two"));
+        assertThat(J7GroupFunctional.collectToIntArray(words, length), equalTo(new int[]{3, 3, 5, 0}));
+        assertThat(J7GroupFunctional.collect(words, isEmpty), contains(""));
+    }
+
+    @Test
+    public void testFunctionalMapOnPoolThreads() throws Exception {
+        final Accessor<Person, String> name = new Accessor<Person, String>() {
+            @Override
+            public String get(Person person) {
+                return person.getName();
+            }
+        };
+        final Accessor<Person, Integer> age = new Accessor<Person, Integer>() {
+            @Override
+            public Integer get(Person person) {
+                return person.getAge();
+            }
+        };
+        final List<Person> persons = Arrays.asList(stan, boris, vinsent);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Map<String, Integer>>() {
+                    @Override
+                    public Map<String, Integer> call() {
+                        return J7GroupFunctional.map(persons, name, age);
+                    }
+                }));
+            }
+            for (Future<Map<String, Integer>> result : results) {
+                assertThat(result.get(), allOf(hasEntry("Stan", 8), hasEntry("Boris", 47), hasEntry("Vinsent", 50)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Mutable entity which equals and hashCode depend on the field used for grouping.
+     */
+    private static class ValueMutablePerson extends MutablePerson {
+        ValueMutablePerson(String name, String surname, int age) {
+            super(name, surname, age);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ValueMutablePerson)) return false;
+            ValueMutablePerson that = (ValueMutablePerson) o;
+            return getName().equals(that.getName()) && getSurname().equals(that.getSurname());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * getName().hashCode() + getSurname().hashCode();
+        }
+    }
+
+    private static List<Person> manyPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person("Name" + i, "Surname" + i % 1000, i % 100));
+        }
+        return persons;
+    }
+
+    @SafeVarargs
+    private static <T> Iterable<T> iterableOf(final T... elements) {
+        return new Iterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return Arrays.asList(elements).iterator();
+            }
+        };
+    }
 }
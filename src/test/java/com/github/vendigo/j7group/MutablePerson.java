@@ -0,0 +1,44 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Person which can change surname. Uses identity equality, like most mutable entities.
+ */
+public class MutablePerson {
+    private String name;
+    private String surname;
+    private int age;
+
+    public MutablePerson() {
+    }
+
+    public MutablePerson(String name, String surname, int age) {
+        this.name = name;
+        this.surname = surname;
+        this.age = age;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    @Override
+    public String toString() {
+        return "MutablePerson{" +
+                "name='" + name + '\'' +
+                ", surname='" + surname + '\'' +
+                ", age=" + age +
+                '}';
+    }
+}
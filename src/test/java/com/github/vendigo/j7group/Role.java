@@ -0,0 +1,5 @@
+package com.github.vendigo.j7group;
+
+public enum Role {
+    DEVELOPER, MANAGER, TESTER
+}
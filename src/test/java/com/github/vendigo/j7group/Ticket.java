@@ -0,0 +1,25 @@
+package com.github.vendigo.j7group;
+
+/**
+ * Ticket for some minimal age. Age is long, to join it with int age of persons.
+ */
+public class Ticket {
+    private String title;
+    private long minAge;
+
+    public Ticket() {
+    }
+
+    public Ticket(String title, long minAge) {
+        this.title = title;
+        this.minAge = minAge;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getMinAge() {
+        return minAge;
+    }
+}
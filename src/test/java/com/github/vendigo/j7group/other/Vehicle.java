@@ -0,0 +1,20 @@
+package com.github.vendigo.j7group.other;
+
+/**
+ * Declares protected getter in another package than its subclass {@link com.github.vendigo.j7group.Car},
+ * so generated accessors can't call it and reflection is used.
+ */
+public class Vehicle {
+    private String plate;
+
+    public Vehicle() {
+    }
+
+    public Vehicle(String plate) {
+        this.plate = plate;
+    }
+
+    protected String getPlate() {
+        return plate;
+    }
+}